@@ -8,9 +8,11 @@
 package io.lighty.yang.validator;
 
 import com.google.common.io.Resources;
+import io.lighty.yang.validator.config.OutputCompression;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
@@ -31,6 +33,7 @@ final class CompilationTable {
 
     private final StringBuilder tableRowBuilder;
     private final String outputDir;
+    private final OutputCompression outputCompression;
     private final String yangDirectory;
     private final String yangtoolsVersion;
     private final Map<String, YangResult> rows = new HashMap<>();
@@ -40,14 +43,15 @@ final class CompilationTable {
     private int numOfPassed;
     private int numOfWarn;
 
-    CompilationTable(@Nullable final String outputDir, final List<String> yangDirectory,
-            final String yangtoolsVersion) {
+    CompilationTable(@Nullable final String outputDir, final OutputCompression outputCompression,
+            final List<String> yangDirectory, final String yangtoolsVersion) {
         tableRowBuilder = new StringBuilder();
         if (outputDir == null) {
             this.outputDir = System.getProperty("java.io.tmpdir");
         } else {
             this.outputDir = outputDir;
         }
+        this.outputCompression = outputCompression;
         this.yangDirectory = String.join(",", yangDirectory);
         this.yangtoolsVersion = yangtoolsVersion;
     }
@@ -112,8 +116,10 @@ final class CompilationTable {
             String text;
             final SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd@HH:mm:ss");
             final Date date = new Date(System.currentTimeMillis());
-            final String outputFile = outputDir + "/" + "compilation_results" + formatter.format(date) + ".html";
-            try (FileWriter writer = new FileWriter(outputFile, StandardCharsets.UTF_8)) {
+            final String outputFileName = "compilation_results" + formatter.format(date) + ".html";
+            final String outputFile = outputDir + "/" + outputFileName + outputCompression.getFileExtension();
+            try (Writer writer = new OutputStreamWriter(
+                    outputCompression.newOutputStream(Paths.get(outputDir), outputFileName), StandardCharsets.UTF_8)) {
                 text = Resources.toString(url, StandardCharsets.UTF_8);
                 text = text.replace("<DIRECTORY>", yangDirectory);
                 text = text.replace("<YANGTOOLS_VERSION>", yangtoolsVersion);
@@ -28,6 +28,13 @@ public class GroupArguments {
         arguments.add(new SingleOptionInGroup(description, name, action, nargs, defaultArg, argumentChoice, type));
     }
 
+    public void addOption(final String description, final List<String> name, final String nargs,
+            final Object defaultArg, final Object constArg, final ArgumentChoice argumentChoice,
+            final Class<?> type) {
+        arguments.add(new SingleOptionInGroup(description, name, false, nargs, defaultArg, constArg, argumentChoice,
+                type));
+    }
+
     public List<SingleOptionInGroup> getOptions() {
         return arguments;
     }
@@ -47,17 +54,25 @@ public class GroupArguments {
         private final boolean action;
         private final String nargs;
         private final Object defaultArg;
+        private final Object constArg;
         private final ArgumentChoice choices;
         private final Class<?> type;
 
         public SingleOptionInGroup(final String description, final List<String> name, final boolean action,
                 final String nargs, final Object defaultArg, final ArgumentChoice choices,
                 final Class<?> type) {
+            this(description, name, action, nargs, defaultArg, null, choices, type);
+        }
+
+        public SingleOptionInGroup(final String description, final List<String> name, final boolean action,
+                final String nargs, final Object defaultArg, final Object constArg, final ArgumentChoice choices,
+                final Class<?> type) {
             this.description = description;
             this.name = name;
             this.action = action;
             this.nargs = nargs;
             this.defaultArg = defaultArg;
+            this.constArg = constArg;
             this.choices = choices;
             this.type = type;
         }
@@ -82,6 +97,10 @@ public class GroupArguments {
             return defaultArg;
         }
 
+        public Object getConstArg() {
+            return constArg;
+        }
+
         public ArgumentChoice getChoices() {
             return choices;
         }
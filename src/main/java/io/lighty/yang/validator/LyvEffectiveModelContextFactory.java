@@ -14,19 +14,30 @@ import io.lighty.yang.validator.simplify.SchemaTree;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.xml.stream.XMLStreamException;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class LyvEffectiveModelContextFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LyvEffectiveModelContextFactory.class);
+    private static final String JSON_EXTENSION = ".json";
+
     private LyvEffectiveModelContextFactory() {
         // hidden on purpose
     }
@@ -50,42 +61,123 @@ public final class LyvEffectiveModelContextFactory {
                 config.isRecursive());
         final EffectiveModelContext context;
         try {
-            context = contextFactory.createContext(config.getSimplify() != null);
+            // simplified and validated data may use modules which are not imported by the given modules
+            context = contextFactory.createContext(config.getSimplify() != null
+                    || !config.getSimplifyProfiles().isEmpty() || !config.getValidateData().isEmpty());
         } catch (final IOException | YangParserException e) {
             throw new LyvApplicationException("Failed to assemble Effective Model Context", e);
         }
-        final var schemaTree = resolveSchemaTree(config.getSimplify(), context);
+        final var schemaTree = resolveSchemaTree(config, context);
+        if (LOG.isDebugEnabled()) {
+            final Runtime runtime = Runtime.getRuntime();
+            LOG.debug("Schema tree resolved, used heap {} MB", (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+        }
         return new LyvEffectiveModelContext(context, schemaTree, contextFactory.getModulesForTesting());
     }
 
-    private static SchemaTree resolveSchemaTree(final String simplifyDir,
+    private static SchemaTree resolveSchemaTree(final Configuration config,
             final EffectiveModelContext effectiveModelContext) throws LyvApplicationException {
-        final SchemaSelector schemaSelector = new SchemaSelector(effectiveModelContext);
-        if (simplifyDir == null) {
+        final SchemaSelector schemaSelector = new SchemaSelector(effectiveModelContext,
+                config.isSimplifyTrackingOnly(), config.getSimplifySample());
+        final String simplifyDir = config.getSimplify();
+        if (simplifyDir == null && config.getSimplifyProfiles().isEmpty()) {
+            if (config.getSimplifyProfileOutput() != null) {
+                LOG.warn("Simplify profile {} not written, it requires simplify data or simplify profile",
+                        config.getSimplifyProfileOutput());
+            }
             schemaSelector.noXml();
-        } else {
+            return schemaSelector.getSchemaTree();
+        }
+        for (final String profile : config.getSimplifyProfiles()) {
+            try (FileInputStream fis = new FileInputStream(profile)) {
+                schemaSelector.addProfile(fis);
+            } catch (final IOException e) {
+                throw new LyvApplicationException(String.format("Failed to load simplify profile %s", profile), e);
+            }
+        }
+        if (simplifyDir != null) {
             try (Stream<Path> path = Files.list(Paths.get(simplifyDir))) {
                 final List<File> xmlFiles = path
+                        .sorted()
                         .map(Path::toFile)
                         .collect(Collectors.toList());
 
                 addXmlFilesToSchemaSelector(schemaSelector, xmlFiles);
+                if (schemaSelector.getSkippedListEntries() > 0) {
+                    LOG.info("Simplify sample skipped {} list entries", schemaSelector.getSkippedListEntries());
+                }
             } catch (final IOException e) {
                 throw new LyvApplicationException("Failed to open xml files", e);
             }
         }
+        final String profileOutput = config.getSimplifyProfileOutput();
+        if (profileOutput != null) {
+            try (OutputStream fos = Files.newOutputStream(Paths.get(profileOutput))) {
+                schemaSelector.writeProfile(fos);
+            } catch (final IOException e) {
+                throw new LyvApplicationException(String.format("Failed to save simplify profile %s", profileOutput),
+                        e);
+            }
+        }
         return schemaSelector.getSchemaTree();
     }
 
     private static void addXmlFilesToSchemaSelector(final SchemaSelector schemaSelector, final List<File> xmlFiles)
             throws LyvApplicationException {
-        for (final File xmlFile : xmlFiles) {
-            try (FileInputStream fis = new FileInputStream(xmlFile)) {
-                schemaSelector.addXml(fis);
+        final int workers = Math.min(xmlFiles.size(), Runtime.getRuntime().availableProcessors());
+        if (workers <= 1) {
+            fillSchemaSelector(schemaSelector, xmlFiles);
+            return;
+        }
+        /*
+         Each worker parses a contiguous chunk of the sorted files into its own SchemaTree. Trees are merged in chunk
+         order afterwards, which gives the same tree as parsing all the files one after another.
+         */
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            final int chunkSize = (xmlFiles.size() + workers - 1) / workers;
+            final List<Future<SchemaSelector>> chunks = new ArrayList<>();
+            for (int start = 0; start < xmlFiles.size(); start += chunkSize) {
+                final List<File> chunk = xmlFiles.subList(start, Math.min(xmlFiles.size(), start + chunkSize));
+                final SchemaSelector worker = schemaSelector.newWorker();
+                chunks.add(executor.submit(() -> fillSchemaSelector(worker, chunk)));
+            }
+            for (final Future<SchemaSelector> chunk : chunks) {
+                schemaSelector.merge(getChunkResult(chunk));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SchemaSelector getChunkResult(final Future<SchemaSelector> chunk) throws LyvApplicationException {
+        try {
+            return chunk.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof LyvApplicationException) {
+                throw (LyvApplicationException) e.getCause();
+            }
+            throw new LyvApplicationException("Failed to fill schema from xml files", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LyvApplicationException("Interrupted while filling schema from xml files", e);
+        }
+    }
+
+    private static SchemaSelector fillSchemaSelector(final SchemaSelector schemaSelector, final List<File> dataFiles)
+            throws LyvApplicationException {
+        for (final File dataFile : dataFiles) {
+            try (FileInputStream fis = new FileInputStream(dataFile)) {
+                if (dataFile.getName().endsWith(JSON_EXTENSION)) {
+                    schemaSelector.addJson(fis);
+                } else {
+                    schemaSelector.addXml(fis);
+                }
             } catch (final IOException | XMLStreamException | URISyntaxException e) {
                 throw new LyvApplicationException(
-                        String.format("Failed to fill schema from %s", xmlFile), e);
+                        String.format("Failed to fill schema from %s", dataFile), e);
             }
         }
+        return schemaSelector;
     }
 }
@@ -52,6 +52,11 @@ public class LyvParameters {
                 .nargs("?")
                 .help("path to output directory for logs. Output dir will be created with name out.log"
                         + " if this file already exists it will be overwritten");
+        lyvArgumentParser.addArgument("--output-compression")
+                .choices("none", "gzip")
+                .setDefault("none")
+                .help("compress files written to output directory while they are written."
+                        + " Compressed files get the .gz extension");
         lyvArgumentParser.addArgument("-d", "--debug")
                 .action(storeTrue())
                 .help("add debug output");
@@ -71,16 +76,45 @@ public class LyvParameters {
         lyvArgumentParser.addArgument("--check-update-from")
                 .nargs("?")
                 .help("path is a colon (:) separated list of directories to search for yang modules.");
+        lyvArgumentParser.addArgument("--check-update-from-release")
+                .nargs(2)
+                .metavar("OLD_DIR", "NEW_DIR")
+                .setDefault(Collections.emptyList())
+                .help("Compare all the yang modules of the old release directory with modules of the same name"
+                        + " in the new release directory. Use -P and -p for imports of old and new modules.");
+        lyvArgumentParser.addArgument("--validate-data")
+                .nargs("*")
+                .setDefault(Collections.emptyList())
+                .help("Validate xml instance data files, or all the files of given directories, against the yang"
+                        + " modules. Files are validated in parallel and errors are reported for each file.");
         lyvArgumentParser.addArgument("-a", "--parse-all")
                 .nargs("*")
                 .setDefault(Collections.emptyList())
                 .help("Parse all files within given directory/directories. This option can be used with -p option.");
         lyvArgumentParser.addArgument("-s", "--simplify")
                 .nargs("?")
-                .help("Simplify yang modules providing directory to xml files."
+                .help("Simplify yang modules providing directory to xml or json (RFC 7951) files."
                         + " Based on these xml files it will generate simplified yang modules."
                         + "Use with -o or --output to save yang files"
                         + " to specified directory otherwise they will be printed out to standard output");
+        lyvArgumentParser.addArgument("--simplify-tracking-only")
+                .action(storeTrue())
+                .help("Use with -s or --simplify to only track schema nodes used by xml files. Data of xml files"
+                        + " are not built and leaf values are not validated, so large files can be simplified.");
+        lyvArgumentParser.addArgument("--simplify-sample")
+                .type(Integer.class)
+                .setDefault(0)
+                .help("Use with -s or --simplify to read only first N entries of each list instance, further"
+                        + " entries are skipped. Number of skipped entries is reported. 0 reads all the entries.");
+        lyvArgumentParser.addArgument("--simplify-profile")
+                .nargs("*")
+                .setDefault(Collections.emptyList())
+                .help("Simplify yang modules by schema nodes stored in usage profile files. Can be used without"
+                        + " -s or --simplify, or with it to merge nodes used by new xml or json files"
+                        + " to the profiles.");
+        lyvArgumentParser.addArgument("--simplify-profile-output")
+                .help("Save schema nodes used by -s or --simplify files and --simplify-profile files to"
+                        + " usage profile file, which can be used instead of the files later.");
         lyvArgumentParser.addArgument("yang").nargs("*")
                 .help("Yang models to be parsed");
 
@@ -93,7 +127,8 @@ public class LyvParameters {
     private Namespace validate(final String[] argsToValidate) {
         final Namespace namespace = lyvArgumentParser.parseArgsOrFail(argsToValidate);
         final String pathDoesNotExist = "Path %s does not exist";
-        if (namespace.getList("parse_all").isEmpty()) {
+        final List<String> releaseDirs = namespace.getList("check_update_from_release");
+        if (namespace.getList("parse_all").isEmpty() && releaseDirs.isEmpty()) {
             final List<String> yangModules = namespace.getList("yang");
             final String errorMessage = "Did you forget to set the module to parse?";
             Preconditions.checkNotNull(yangModules, errorMessage);
@@ -117,6 +152,14 @@ public class LyvParameters {
                 }
             }
         }
+        for (final String releaseDir : releaseDirs) {
+            final File file = new File(releaseDir);
+            Preconditions.checkArgument(file.exists(), String.format(pathDoesNotExist, releaseDir));
+            Preconditions.checkArgument(file.isDirectory(), String.format("Path %s is not a directory", releaseDir));
+        }
+        for (final String dataPath : namespace.<String>getList("validate_data")) {
+            Preconditions.checkArgument(new File(dataPath).exists(), String.format(pathDoesNotExist, dataPath));
+        }
         final List<String> paths = namespace.getList("path");
         for (final String path : paths) {
             final File file = new File(path);
@@ -157,6 +200,9 @@ public class LyvParameters {
             if (option.getDefaultArg() != null) {
                 arg.setDefault(option.getDefaultArg());
             }
+            if (option.getConstArg() != null) {
+                arg.setConst(option.getConstArg());
+            }
         }
     }
 }
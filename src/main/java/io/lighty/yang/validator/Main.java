@@ -15,22 +15,31 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.OutputStreamAppender;
 import com.google.common.base.Stopwatch;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.lighty.yang.validator.checkupdatefrom.CheckUpdateFrom;
+import io.lighty.yang.validator.checkupdatefrom.CheckUpdateFromRelease;
 import io.lighty.yang.validator.config.Configuration;
 import io.lighty.yang.validator.config.ConfigurationBuilder;
+import io.lighty.yang.validator.config.OutputCompression;
 import io.lighty.yang.validator.exceptions.LyvApplicationException;
 import io.lighty.yang.validator.formats.Analyzer;
 import io.lighty.yang.validator.formats.Depends;
 import io.lighty.yang.validator.formats.Format;
 import io.lighty.yang.validator.formats.FormatPlugin;
+import io.lighty.yang.validator.formats.HeatMap;
+import io.lighty.yang.validator.formats.HeatMapTree;
 import io.lighty.yang.validator.formats.JsTree;
 import io.lighty.yang.validator.formats.JsonTree;
+import io.lighty.yang.validator.formats.Metrics;
 import io.lighty.yang.validator.formats.MultiModulePrinter;
 import io.lighty.yang.validator.formats.NameRevision;
 import io.lighty.yang.validator.formats.Tree;
+import io.lighty.yang.validator.validatedata.DataValidator;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -70,6 +79,7 @@ import org.slf4j.LoggerFactory;
 public final class Main {
 
     private static final Logger LOG = LoggerFactory.getLogger(Main.class);
+    private static final String OUT_LOG = "out.log";
     private static final ch.qos.logback.classic.Logger MAIN_LOGGER =
             (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ROOT_LOGGER_NAME);
 
@@ -87,15 +97,36 @@ public final class Main {
             return;
         }
         setMainLoggerOutput(configuration);
-        startLyv(configuration, format);
+        final int exitCode = startLyv(configuration, format);
         MAIN_LOGGER.getLoggerContext().reset();
+        if (exitCode != 0) {
+            exit(exitCode);
+        }
+    }
+
+    @SuppressFBWarnings(value = "DM_EXIT", justification = "Exit status is the result of check used by CI gates")
+    private static void exit(final int exitCode) {
+        System.exit(exitCode);
     }
 
-    public static void startLyv(final Configuration config, final Format format) {
+    /**
+     * Run the application with the configuration.
+     *
+     * @param config configuration of the application
+     * @param format output formats
+     * @return exit status, non-zero if the check found a backward incompatible change or the validated data
+     *         are not valid
+     */
+    public static int startLyv(final Configuration config, final Format format) {
         final var stopWatch = Stopwatch.createStarted();
+        int exitCode = 0;
         try {
-            if (config.getCheckUpdateFrom() != null && config.getFormat() == null) {
-                checkUpdateForm(config);
+            if (!config.getCheckUpdateFromRelease().isEmpty() && config.getFormat() == null) {
+                exitCode = checkUpdateFromRelease(config);
+            } else if (config.getCheckUpdateFrom() != null && config.getFormat() == null) {
+                exitCode = checkUpdateForm(config);
+            } else if (!config.getValidateData().isEmpty() && config.getFormat() == null) {
+                exitCode = validateData(config);
             } else {
                 LOG.debug("Supported features: {} ", config.getSupportedFeatures());
                 if (config.getParseAll().isEmpty()) {
@@ -109,9 +140,18 @@ public final class Main {
         }
         stopWatch.stop();
         LOG.debug("Elapsed time: {}", stopWatch);
+        return exitCode;
     }
 
-    public static void checkUpdateForm(final Configuration config) throws LyvApplicationException {
+    /**
+     * Check update of the module from the old module. Errors are printed as soon as they are found.
+     *
+     * @param config configuration of the check
+     * @return exit status, {@link CheckUpdateFrom#INCOMPATIBLE_UPDATE_EXIT_CODE} if fail fast is enabled
+     *         and a backward incompatible change was found, 0 otherwise
+     * @throws LyvApplicationException if the modules can not be parsed
+     */
+    public static int checkUpdateForm(final Configuration config) throws LyvApplicationException {
         final var lyvContext = LyvEffectiveModelContextFactory.create(config);
         if (lyvContext.testedModules() == null) {
             throw new LyvApplicationException("Yang model for Check-update-from was not specified."
@@ -131,10 +171,73 @@ public final class Main {
         } catch (final IOException | YangParserException e) {
             throw new LyvApplicationException("Failed to assemble Effective Model Context", e);
         }
+        final boolean failFast = config.getCheckUpdateFromConfiguration().isFailFast();
         final var checkUpdateFrom = new CheckUpdateFrom(lyvContext.context(), module, contextFrom,
-                config.getCheckUpdateFrom(), config.getCheckUpdateFromConfiguration().getRfcVersion());
+                config.getCheckUpdateFrom(), config.getCheckUpdateFromConfiguration().getRfcVersion(), true, failFast);
         checkUpdateFrom.validate();
-        checkUpdateFrom.printErrors();
+        if (failFast && checkUpdateFrom.isIncompatible()) {
+            LOG.info("Check-update-from stopped at the first backward incompatible change");
+            return CheckUpdateFrom.INCOMPATIBLE_UPDATE_EXIT_CODE;
+        }
+        return 0;
+    }
+
+    /**
+     * Check update of all the modules of the old release to the new release.
+     *
+     * @param config configuration of the check
+     * @return exit status, {@link CheckUpdateFrom#INCOMPATIBLE_UPDATE_EXIT_CODE} if any module is removed
+     *         or has errors, 0 otherwise
+     * @throws LyvApplicationException if the modules can not be parsed
+     */
+    public static int checkUpdateFromRelease(final Configuration config) throws LyvApplicationException {
+        final List<String> releaseDirs = config.getCheckUpdateFromRelease();
+        final var contextFactoryFrom = new YangContextFactory(
+                config.getCheckUpdateFromConfiguration().getCheckUpdateFromPath(),
+                YangContextFactory.listYangFiles(releaseDirs.get(0), config.isRecursive()),
+                config.getSupportedFeatures(), config.isRecursive());
+        final var contextFactory = new YangContextFactory(config.getPath(),
+                YangContextFactory.listYangFiles(releaseDirs.get(1), config.isRecursive()),
+                config.getSupportedFeatures(), config.isRecursive());
+        final EffectiveModelContext contextFrom;
+        final EffectiveModelContext context;
+        try {
+            // each release is assembled once and shared by checks of all its modules
+            contextFrom = contextFactoryFrom.createContext(false);
+            context = contextFactory.createContext(false);
+        } catch (final IOException | YangParserException e) {
+            throw new LyvApplicationException("Failed to assemble Effective Model Context", e);
+        }
+        final var checkUpdateFromRelease = new CheckUpdateFromRelease(context, contextFactory.getModulesForTesting(),
+                contextFrom, contextFactoryFrom.getModulesForTesting(),
+                config.getCheckUpdateFromConfiguration().getRfcVersion());
+        checkUpdateFromRelease.validate();
+        checkUpdateFromRelease.printReport();
+        return checkUpdateFromRelease.getIncompatibleCount() > 0 ? CheckUpdateFrom.INCOMPATIBLE_UPDATE_EXIT_CODE : 0;
+    }
+
+    /**
+     * Validate instance data files against the modules.
+     *
+     * @param config configuration of the validation
+     * @return exit status, {@link DataValidator#INVALID_DATA_EXIT_CODE} if any of the files is not valid,
+     *         0 otherwise
+     * @throws LyvApplicationException if the modules can not be parsed or the files can not be listed
+     */
+    public static int validateData(final Configuration config) throws LyvApplicationException {
+        final var contextFactory = new YangContextFactory(config.getPath(), config.getYang(),
+                config.getSupportedFeatures(), config.isRecursive());
+        final EffectiveModelContext context;
+        try {
+            // validated data may use modules which are not imported by the given modules
+            context = contextFactory.createContext(true);
+        } catch (final IOException | YangParserException e) {
+            throw new LyvApplicationException("Failed to assemble Effective Model Context", e);
+        }
+        final var dataValidator = new DataValidator(context);
+        dataValidator.validate(config.getValidateData());
+        dataValidator.printResults();
+        return dataValidator.getErrorCount() > 0 ? DataValidator.INVALID_DATA_EXIT_CODE : 0;
     }
 
     private static void runLyvForProvidedFiles(final Configuration config, final Format format)
@@ -190,7 +293,8 @@ public final class Main {
     private static void generateHtmlAnalyzeOutput(final List<String> yangFiles, final Configuration config)
             throws LyvApplicationException {
         final var yangtoolsVersion = getYangtoolsVersion(EffectiveModelContext.class);
-        final var table = new CompilationTable(config.getOutput(), config.getParseAll(), yangtoolsVersion);
+        final var table = new CompilationTable(config.getOutput(), config.getOutputCompression(), config.getParseAll(),
+                yangtoolsVersion);
         final var newAppender = new CompilationTableAppender();
         newAppender.setContext(MAIN_LOGGER.getLoggerContext());
         newAppender.start();
@@ -233,6 +337,9 @@ public final class Main {
         formats.add(new MultiModulePrinter());
         formats.add(new JsTree());
         formats.add(new Analyzer());
+        formats.add(new Metrics());
+        formats.add(new HeatMap());
+        formats.add(new HeatMapTree());
         return new Format(formats);
     }
 
@@ -310,10 +417,24 @@ public final class Main {
 
         // create FileAppender
         final String path = config.getOutput();
-        if (path != null) {
+        if (path != null && config.getOutputCompression() != OutputCompression.NONE) {
+            // compress log while it is written, so large format outputs are not stored twice
+            final OutputStreamAppender<ILoggingEvent> logFile = new OutputStreamAppender<>();
+            logFile.setContext(MAIN_LOGGER.getLoggerContext());
+            logFile.setEncoder(encoder);
+            logFile.setImmediateFlush(false);
+            try {
+                final Path outputDir = Files.createDirectories(Paths.get(path));
+                logFile.setOutputStream(config.getOutputCompression().newOutputStream(outputDir, OUT_LOG));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not create log file in " + path, e);
+            }
+            logFile.start();
+            MAIN_LOGGER.addAppender(logFile);
+        } else if (path != null) {
             final FileAppender<ILoggingEvent> logFile = new FileAppender<>();
             logFile.setAppend(false);
-            logFile.setFile(path + "/out.log");
+            logFile.setFile(path + "/" + OUT_LOG);
             logFile.setContext(MAIN_LOGGER.getLoggerContext());
             logFile.setEncoder(encoder);
             logFile.start();
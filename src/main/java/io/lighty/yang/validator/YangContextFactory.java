@@ -101,6 +101,15 @@ final class YangContextFactory {
         return testedModules;
     }
 
+    static List<String> listYangFiles(final String yangSourcesDirectoryPath, final boolean recursiveSearch) {
+        final List<String> yangFiles = new ArrayList<>();
+        for (final File file : getYangFiles(yangSourcesDirectoryPath, recursiveSearch)) {
+            yangFiles.add(file.getPath());
+        }
+        Collections.sort(yangFiles);
+        return yangFiles;
+    }
+
     private static Collection<File> getYangFiles(final String yangSourcesDirectoryPath, final boolean recursiveSearch) {
         final File testSourcesDir = new File(yangSourcesDirectoryPath);
 
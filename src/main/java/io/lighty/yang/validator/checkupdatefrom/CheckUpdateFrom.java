@@ -46,9 +46,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -57,6 +60,8 @@ import net.sourceforge.argparse4j.impl.choice.CollectionArgumentChoice;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -69,6 +74,7 @@ import org.opendaylight.yangtools.yang.model.api.MustConstraintAware;
 import org.opendaylight.yangtools.yang.model.api.MustDefinition;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.Status;
 import org.opendaylight.yangtools.yang.model.api.TypeAware;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
@@ -90,6 +96,11 @@ import org.opendaylight.yangtools.yang.xpath.api.YangXPathExpression.QualifiedBo
 
 public class CheckUpdateFrom {
 
+    /**
+     * Exit status of the application when the check stops at the first backward incompatible change.
+     */
+    public static final int INCOMPATIBLE_UPDATE_EXIT_CODE = 2;
+
     private static final String MIN_ELEMENTS = "\nmin-elements: ";
     private static final String MAX_ELEMENTS = "\nmaX-elements: ";
     private static final String MUST = "\nmust: ";
@@ -108,17 +119,106 @@ public class CheckUpdateFrom {
     private final Module oldModule;
     private final Module newModule;
     private final boolean is7950;
+    private final boolean streamErrors;
+    private final boolean failFast;
+    // elements of the new module looked up by elements of the old module
+    private final Map<String, TypeDefinition<?>> newTypeDefs;
+    private final Map<String, IdentitySchemaNode> newIdentities;
+    private final Map<String, RpcDefinition> newRPCs;
+    private final Map<String, NotificationDefinition> newNotifications;
+    private final Map<SchemaNodeIdentifier, AugmentationSchemaNode> newAugmentations = new HashMap<>();
+    private final Map<List<String>, DataSchemaNode> newDataTree = new HashMap<>();
+    private final Map<TypePair, List<TypeFinding>> typeComparisons = new HashMap<>();
+    private final SchemaFingerprints oldFingerprints;
+    private final SchemaFingerprints newFingerprints;
 
     private final Set<CheckUpdateFromErrorRFC6020> errors = new LinkedHashSet<>();
 
     public CheckUpdateFrom(final EffectiveModelContext newContext, final Module newModule,
             final EffectiveModelContext oldContext, final String oldModule, final int rfcVersion) {
+        this(newContext, newModule, oldContext, oldModule, rfcVersion, false, false);
+    }
+
+    /**
+     * Create check of the update of the module.
+     *
+     * @param newContext   model context of the new module
+     * @param newModule    the new module
+     * @param oldContext   model context of the old module
+     * @param oldModule    path of the old module
+     * @param rfcVersion   RFC (6020 or 7950) the check is processed according to
+     * @param streamErrors print each error as soon as it is found instead of by {@link #printErrors()}
+     * @param failFast     stop {@link #validate()} at the first backward incompatible change
+     */
+    public CheckUpdateFrom(final EffectiveModelContext newContext, final Module newModule,
+            final EffectiveModelContext oldContext, final String oldModule, final int rfcVersion,
+            final boolean streamErrors, final boolean failFast) {
+        this.streamErrors = streamErrors;
+        this.failFast = failFast;
         final String oldModuleName = extractModuleName(oldModule);
         oldSchemaIS = SchemaInferenceStack.of(oldContext);
         newSchemaIS = SchemaInferenceStack.of(newContext);
         this.newModule = newModule;
         this.oldModule = oldContext.findModules(oldModuleName).iterator().next();
         is7950 = rfcVersion == 7950;
+        newTypeDefs = indexByName(newModule.getTypeDefinitions());
+        newIdentities = indexByName(newModule.getIdentities());
+        newRPCs = indexByName(newModule.getRpcs());
+        newNotifications = indexByName(newModule.getNotifications());
+        for (final AugmentationSchemaNode newAug : newModule.getAugmentations()) {
+            newAugmentations.putIfAbsent(newAug.getTargetPath(), newAug);
+        }
+        indexDataTree(newModule, List.of());
+        oldFingerprints = SchemaFingerprints.of(this.oldModule);
+        newFingerprints = SchemaFingerprints.of(newModule);
+    }
+
+    private static <T extends SchemaNode> Map<String, T> indexByName(final Collection<? extends T> nodes) {
+        final Map<String, T> byName = new HashMap<>();
+        for (final T node : nodes) {
+            byName.putIfAbsent(node.getQName().getLocalName(), node);
+        }
+        return byName;
+    }
+
+    /**
+     * Index data tree nodes of the new module by local names of their path. Choices and cases are transparent
+     * and direct children take precedence over children of cases, the same way as in
+     * {@link DataNodeContainer#findDataTreeChild(Iterable)}. Nodes of other modules are not indexed, as nodes
+     * of the old module are looked up in the namespace of the new module.
+     */
+    private void indexDataTree(final DataNodeContainer container, final List<String> path) {
+        final Map<QName, DataSchemaNode> children = new LinkedHashMap<>();
+        collectDataTreeChildren(container, children);
+        for (final DataSchemaNode child : children.values()) {
+            if (!child.getQName().getModule().equals(newModule.getQNameModule())) {
+                continue;
+            }
+            final List<String> childPath = new ArrayList<>(path.size() + 1);
+            childPath.addAll(path);
+            childPath.add(child.getQName().getLocalName());
+            newDataTree.put(childPath, child);
+            if (child instanceof DataNodeContainer) {
+                indexDataTree((DataNodeContainer) child, childPath);
+            }
+        }
+    }
+
+    private static void collectDataTreeChildren(final DataNodeContainer container,
+            final Map<QName, DataSchemaNode> children) {
+        final List<ChoiceSchemaNode> choices = new ArrayList<>();
+        for (final DataSchemaNode child : container.getChildNodes()) {
+            if (child instanceof ChoiceSchemaNode) {
+                choices.add((ChoiceSchemaNode) child);
+            } else {
+                children.putIfAbsent(child.getQName(), child);
+            }
+        }
+        for (final ChoiceSchemaNode choice : choices) {
+            for (final CaseSchemaNode caseNode : choice.getCases()) {
+                collectDataTreeChildren(caseNode, children);
+            }
+        }
     }
 
     private static String extractModuleName(final String module) {
@@ -134,64 +234,88 @@ public class CheckUpdateFrom {
         }
     }
 
+    /**
+     * Get number of errors found by {@link #validate()}.
+     *
+     * @return number of errors
+     */
+    public int getErrorCount() {
+        return errors.size();
+    }
+
     public void validate() {
-        checkName();
-        checkNamespace();
-        checkRevision();
-        if (is7950) {
-            checkIdentities();
+        try {
+            checkName();
+            checkNamespace();
+            checkRevision();
+            if (is7950) {
+                checkIdentities();
+            }
+            final Collection<? extends DataSchemaNode> childNodes = oldModule.getChildNodes();
+            findNodesRecursively(childNodes);
+
+            checkNotifications();
+            checkAugmentations();
+            checkRPCs();
+            checkTypeDefs();
+        } catch (final IncompatibleChangeException e) {
+            // fail fast, the rest of the module is not checked
         }
-        final Collection<? extends DataSchemaNode> childNodes = oldModule.getChildNodes();
-        findNodesRecursively(childNodes);
+    }
 
-        checkNotifications();
-        checkAugmentations();
-        checkRPCs();
-        checkTypeDefs();
+    /**
+     * Check if any of the errors found by {@link #validate()} is a backward incompatible change,
+     * warnings about changes which should be checked by user are not counted.
+     *
+     * @return true if the new module is not backward compatible with the old one
+     */
+    public boolean isIncompatible() {
+        return errors.stream().anyMatch(error -> !error.isWarning());
+    }
 
+    private void addError(final CheckUpdateFromErrorRFC6020 error) {
+        errors.add(error);
+        if (streamErrors) {
+            error.print(errors.size());
+        }
+        if (failFast && !error.isWarning()) {
+            throw new IncompatibleChangeException();
+        }
     }
 
     private void checkIdentities() {
         final Collection<? extends IdentitySchemaNode> oldIdentities = oldModule.getIdentities();
-        final Collection<? extends IdentitySchemaNode> newIdentities = newModule.getIdentities();
         for (final IdentitySchemaNode oldIdentity : oldIdentities) {
-            if (isIdentityNotFound(newIdentities, oldIdentity)) {
-                errors.add(missingIdentityError().updateInformation(DONT_EXISTS, oldIdentity.getQName().toString()));
+            if (isIdentityNotFound(oldIdentity)) {
+                addError(missingIdentityError().updateInformation(DONT_EXISTS, oldIdentity.getQName().toString()));
             }
         }
 
     }
 
-    private boolean isIdentityNotFound(final Collection<? extends IdentitySchemaNode> newIdentities,
-            final IdentitySchemaNode oldIdentity) {
-        boolean identityNotFound = true;
-        for (final IdentitySchemaNode newIdentity : newIdentities) {
-            if (oldIdentity.getQName().getLocalName().equals(newIdentity.getQName().getLocalName())) {
-                identityNotFound = false;
-                checkBaseIdentities(oldIdentity, newIdentity);
-                break;
-            }
+    private boolean isIdentityNotFound(final IdentitySchemaNode oldIdentity) {
+        final IdentitySchemaNode newIdentity = newIdentities.get(oldIdentity.getQName().getLocalName());
+        if (newIdentity == null) {
+            return true;
         }
-        return identityNotFound;
+        checkBaseIdentities(oldIdentity, newIdentity);
+        return false;
     }
 
     private void checkBaseIdentities(final IdentitySchemaNode oldIdentity, final IdentitySchemaNode newIdentity) {
         final Collection<? extends IdentitySchemaNode> oldBaseIdentities = oldIdentity.getBaseIdentities();
         final Collection<? extends IdentitySchemaNode> newBaseIdentities = newIdentity.getBaseIdentities();
         if (oldBaseIdentities.size() > newBaseIdentities.size()) {
-            errors.add(baseIdentityError().updateInformation(newBaseIdentities.toString(),
+            addError(baseIdentityError().updateInformation(newBaseIdentities.toString(),
                     oldBaseIdentities.toString()));
         } else {
+            final Set<String> newBaseNames = new HashSet<>();
+            for (final IdentitySchemaNode newBaseIdentity : newBaseIdentities) {
+                newBaseNames.add(newBaseIdentity.getQName().getLocalName());
+            }
             for (final IdentitySchemaNode oldBaseIdentity : oldBaseIdentities) {
-                boolean identityBaseNotFound = true;
-                for (final IdentitySchemaNode newBaseIdentity : newBaseIdentities) {
-                    if (oldBaseIdentity.getQName().getLocalName().equals(newBaseIdentity.getQName().getLocalName())) {
-                        identityBaseNotFound = false;
-                        break;
-                    }
-                }
-                if (identityBaseNotFound) {
-                    errors.add(missingBaseIdentityError()
+                if (!newBaseNames.contains(oldBaseIdentity.getQName().getLocalName())) {
+                    addError(missingBaseIdentityError()
                             .updateInformation(DONT_EXISTS, oldBaseIdentity.getQName().toString()));
                 }
             }
@@ -200,42 +324,34 @@ public class CheckUpdateFrom {
 
     private void checkTypeDefs() {
         final Collection<? extends TypeDefinition<?>> oldTypeDefs = oldModule.getTypeDefinitions();
-        final Collection<? extends TypeDefinition<?>> newTypeDefs = newModule.getTypeDefinitions();
         for (final TypeDefinition<?> oldTypeDef : oldTypeDefs) {
-            for (final TypeDefinition<?> newTypeDef : newTypeDefs) {
-                if (oldTypeDef.getQName().getLocalName().equals(newTypeDef.getQName().getLocalName())) {
-                    checkTypeAware(oldTypeDef, newTypeDef);
-                    checkStatus(oldTypeDef.getStatus(), newTypeDef.getStatus(),
-                            Absolute.of(oldTypeDef.getQName()), Absolute.of(newTypeDef.getQName()));
-                    break;
-                }
+            final TypeDefinition<?> newTypeDef = newTypeDefs.get(oldTypeDef.getQName().getLocalName());
+            if (newTypeDef != null) {
+                checkTypeAware(oldTypeDef, newTypeDef);
+                checkStatus(oldTypeDef.getStatus(), newTypeDef.getStatus(),
+                        Absolute.of(oldTypeDef.getQName()), Absolute.of(newTypeDef.getQName()));
             }
         }
     }
 
     private void checkRPCs() {
         final Collection<? extends RpcDefinition> oldRPCs = oldModule.getRpcs();
-        final Collection<? extends RpcDefinition> newRPCs = newModule.getRpcs();
         for (final RpcDefinition oldRPC : oldRPCs) {
             oldSchemaIS.enterDataTree(QName.create(oldModule.getQNameModule(),
                     oldRPC.getQName().getLocalName()));
-            boolean rpcFound = false;
-            for (final RpcDefinition newRPC : newRPCs) {
+            final RpcDefinition newRPC = newRPCs.get(oldRPC.getQName().getLocalName());
+            final boolean rpcFound = newRPC != null && oldRPC.equals(newRPC);
+            if (rpcFound) {
                 newSchemaIS.enterDataTree(QName.create(newModule.getQNameModule(),
                         newRPC.getQName().getLocalName()));
-                if (oldRPC.equals(newRPC)) {
-                    checkReference(oldRPC.getReference(), newRPC.getReference());
-                    checkStatus(oldRPC.getStatus(), newRPC.getStatus(), oldSchemaIS.toSchemaNodeIdentifier(),
-                            newSchemaIS.toSchemaNodeIdentifier());
-                    findNodesRecursively(Collections.singletonList(oldRPC.getInput()));
-                    findNodesRecursively(Collections.singletonList(oldRPC.getOutput()));
-                    rpcFound = true;
-                    break;
-                }
+                checkReference(oldRPC.getReference(), newRPC.getReference());
+                checkStatus(oldRPC.getStatus(), newRPC.getStatus(), oldSchemaIS.toSchemaNodeIdentifier(),
+                        newSchemaIS.toSchemaNodeIdentifier());
+                findNodesRecursively(Collections.singletonList(oldRPC.getInput()));
+                findNodesRecursively(Collections.singletonList(oldRPC.getOutput()));
                 newSchemaIS.exit();
-            }
-            if (!rpcFound) {
-                errors.add(missingNodeError().updateInformation("missing rpc node",
+            } else {
+                addError(missingNodeError().updateInformation("missing rpc node",
                         oldSchemaIS.toSchemaNodeIdentifier().toString()));
             }
             oldSchemaIS.exit();
@@ -244,21 +360,15 @@ public class CheckUpdateFrom {
 
     private void checkAugmentations() {
         final Collection<? extends AugmentationSchemaNode> oldAugmentations = oldModule.getAugmentations();
-        final Collection<? extends AugmentationSchemaNode> newAugmentations = newModule.getAugmentations();
         for (final AugmentationSchemaNode oldAug : oldAugmentations) {
-            boolean augFound = false;
-            for (final AugmentationSchemaNode newAug : newAugmentations) {
-                if (oldAug.getTargetPath().equals(newAug.getTargetPath())) {
-                    checkReference(oldAug.getReference(), newAug.getReference());
-                    checkStatus(oldAug.getStatus(), newAug.getStatus(), oldAug.getTargetPath(),
-                            newAug.getTargetPath());
-                    findNodesRecursively(oldAug.getChildNodes());
-                    augFound = true;
-                    break;
-                }
-            }
-            if (!augFound) {
-                errors.add(missingNodeError().updateInformation("missing augmentation node",
+            final AugmentationSchemaNode newAug = newAugmentations.get(oldAug.getTargetPath());
+            if (newAug != null) {
+                checkReference(oldAug.getReference(), newAug.getReference());
+                checkStatus(oldAug.getStatus(), newAug.getStatus(), oldAug.getTargetPath(),
+                        newAug.getTargetPath());
+                findNodesRecursively(oldAug.getChildNodes());
+            } else {
+                addError(missingNodeError().updateInformation("missing augmentation node",
                         oldAug.getTargetPath().toString()));
             }
         }
@@ -266,26 +376,21 @@ public class CheckUpdateFrom {
 
     private void checkNotifications() {
         final Collection<? extends NotificationDefinition> oldNotifications = oldModule.getNotifications();
-        final Collection<? extends NotificationDefinition> newNotifications = newModule.getNotifications();
         for (final NotificationDefinition oldNotification : oldNotifications) {
             oldSchemaIS.enterDataTree(QName.create(oldModule.getQNameModule(),
                     oldNotification.getQName().getLocalName()));
-            boolean notificationFound = false;
-            for (final NotificationDefinition newNotification : newNotifications) {
-                if (oldNotification.equals(newNotification)) {
-                    newSchemaIS.enterDataTree(QName.create(newModule.getQNameModule(),
-                            newNotification.getQName().getLocalName()));
-                    checkReference(oldNotification.getReference(), newNotification.getReference());
-                    checkStatus(oldNotification.getStatus(), newNotification.getStatus(),
-                            oldSchemaIS.toSchemaNodeIdentifier(), newSchemaIS.toSchemaNodeIdentifier());
-                    findNodesRecursively(oldNotification.getChildNodes());
-                    notificationFound = true;
-                    newSchemaIS.exit();
-                    break;
-                }
-            }
-            if (!notificationFound) {
-                errors.add(missingNodeError().updateInformation("missing notification node",
+            final NotificationDefinition newNotification =
+                    newNotifications.get(oldNotification.getQName().getLocalName());
+            if (newNotification != null && oldNotification.equals(newNotification)) {
+                newSchemaIS.enterDataTree(QName.create(newModule.getQNameModule(),
+                        newNotification.getQName().getLocalName()));
+                checkReference(oldNotification.getReference(), newNotification.getReference());
+                checkStatus(oldNotification.getStatus(), newNotification.getStatus(),
+                        oldSchemaIS.toSchemaNodeIdentifier(), newSchemaIS.toSchemaNodeIdentifier());
+                findNodesRecursively(oldNotification.getChildNodes());
+                newSchemaIS.exit();
+            } else {
+                addError(missingNodeError().updateInformation("missing notification node",
                         oldSchemaIS.toSchemaNodeIdentifier().toString()));
             }
             oldSchemaIS.exit();
@@ -296,7 +401,8 @@ public class CheckUpdateFrom {
         for (final DataSchemaNode oldNode : childNodes) {
             oldSchemaIS.enterDataTree(oldNode.getQName());
             final DataSchemaNode newNode = getNodeFromNewModule(oldSchemaIS.toSchemaNodeIdentifier());
-            if (newNode != null) {
+            // subtrees with the same fingerprint are not compared, they can not contain any error
+            if (newNode != null && !oldFingerprints.isSameSubtree(oldNode, newFingerprints, newNode)) {
                 newSchemaIS.enterDataTree(newNode.getQName());
                 checkReference(oldNode.getReference(), newNode.getReference());
                 checkMust(oldNode, newNode);
@@ -326,40 +432,63 @@ public class CheckUpdateFrom {
         }
     }
 
+    /**
+     * Compare the types. Leaves sharing the same type objects, for example leaves of a grouping or typedefs
+     * themselves, are compared only once, findings of the comparison are reported again with paths of each leaf.
+     */
     private void checkTypeAware(final TypeDefinition<? extends TypeDefinition<?>> oldType,
             final TypeDefinition<? extends TypeDefinition<?>> newType) {
-        final boolean isTypeError = checkType(oldType, newType);
-        checkReference(oldType.getReference(), newType.getReference());
-        checkDefault(oldType, newType);
-        checkUnits(oldType, newType);
+        final List<TypeFinding> findings = typeComparisons.computeIfAbsent(new TypePair(oldType, newType),
+                pair -> compareTypes(oldType, newType));
+        if (findings.isEmpty()) {
+            return;
+        }
+        final String oldPath = buildTypeDefinitionPath(oldType, oldSchemaIS);
+        final String newPath = buildTypeDefinitionPath(newType, newSchemaIS);
+        for (final TypeFinding finding : findings) {
+            addError(finding.toError(oldPath, newPath));
+        }
+    }
+
+    private List<TypeFinding> compareTypes(final TypeDefinition<? extends TypeDefinition<?>> oldType,
+            final TypeDefinition<? extends TypeDefinition<?>> newType) {
+        final List<TypeFinding> findings = new ArrayList<>();
+        final boolean isTypeError = checkType(oldType, newType, findings);
+        checkTypeReference(oldType.getReference(), newType.getReference(), findings);
+        checkDefault(oldType, newType, findings);
+        checkUnits(oldType, newType, findings);
         if (!isTypeError) {
             if (is7950 && oldType instanceof IdentityrefTypeDefinition) {
-                checkIdentityref((IdentityrefTypeDefinition) oldType, (IdentityrefTypeDefinition) newType);
+                checkIdentityref((IdentityrefTypeDefinition) oldType, (IdentityrefTypeDefinition) newType, findings);
             }
             if (oldType instanceof LengthRestrictedTypeDefinition) {
-                checkLength((LengthRestrictedTypeDefinition<?>) oldType, (LengthRestrictedTypeDefinition<?>) newType);
+                checkLength((LengthRestrictedTypeDefinition<?>) oldType, (LengthRestrictedTypeDefinition<?>) newType,
+                        findings);
             }
             if (oldType instanceof RangeRestrictedTypeDefinition) {
-                checkRange(oldType, newType);
+                checkRange(oldType, newType, findings);
             }
 
             if (oldType instanceof EnumTypeDefinition) {
-                checkEnumeration((EnumTypeDefinition) oldType, (EnumTypeDefinition) newType);
+                checkEnumeration((EnumTypeDefinition) oldType, (EnumTypeDefinition) newType, findings);
             } else if (oldType instanceof BitsTypeDefinition) {
-                checkBits((BitsTypeDefinition) oldType, (BitsTypeDefinition) newType);
+                checkBits((BitsTypeDefinition) oldType, (BitsTypeDefinition) newType, findings);
             } else if (oldType instanceof StringTypeDefinition) {
-                checkPattern((StringTypeDefinition) oldType, (StringTypeDefinition) newType);
+                checkPattern((StringTypeDefinition) oldType, (StringTypeDefinition) newType, findings);
             }
         }
+        return findings.isEmpty() ? List.of() : findings;
     }
 
-    private void checkIdentityref(final IdentityrefTypeDefinition oldType, final IdentityrefTypeDefinition newType) {
+    private static void checkIdentityref(final IdentityrefTypeDefinition oldType,
+            final IdentityrefTypeDefinition newType, final List<TypeFinding> findings) {
         if (oldType.getIdentities().isEmpty()) {
-            errors.add(identityRefBaseError());
+            findings.add((oldPath, newPath) -> identityRefBaseError());
         } else if (oldType.getIdentities().size() < newType.getIdentities().size()) {
-            errors.add(identityRefBaseError().updateInformation(
-                    newType.getIdentities().toString(),
-                    oldType.getIdentities().toString()));
+            final String newIdentities = newType.getIdentities().toString();
+            final String oldIdentities = oldType.getIdentities().toString();
+            findings.add((oldPath, newPath) -> identityRefBaseError().updateInformation(newIdentities,
+                    oldIdentities));
         }
     }
 
@@ -372,7 +501,7 @@ public class CheckUpdateFrom {
             final Integer newMaxElements = newElementCountConstraint.get().getMaxElements();
             final Integer oldMaxElements = oldElementCountConstraint.get().getMaxElements();
             if (newMaxElements != null && oldMaxElements != null && newMaxElements < oldMaxElements) {
-                errors.add(maxElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+                addError(maxElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                                 + MAX_ELEMENTS + newMaxElements,
                         oldSchemaIS.toSchemaNodeIdentifier() + MAX_ELEMENTS + oldMaxElements));
             }
@@ -386,7 +515,7 @@ public class CheckUpdateFrom {
                 ((ElementCountConstraintAware) newNode).getElementCountConstraint();
         if (newElementCountConstraint.isPresent() && oldElementCountConstraint.isEmpty()) {
             if (newElementCountConstraint.get().getMinElements() != null) {
-                errors.add(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+                addError(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                                 + MIN_ELEMENTS + newElementCountConstraint.get().getMinElements(),
                         oldSchemaIS.toSchemaNodeIdentifier() + MIN_ELEMENTS + DONT_EXISTS));
             }
@@ -394,11 +523,11 @@ public class CheckUpdateFrom {
             final Integer newMinElements = newElementCountConstraint.get().getMinElements();
             final Integer oldMinElements = oldElementCountConstraint.get().getMinElements();
             if (newMinElements != null && oldMinElements == null) {
-                errors.add(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+                addError(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                                 + MIN_ELEMENTS + newElementCountConstraint.get().getMinElements(),
                         oldSchemaIS.toSchemaNodeIdentifier() + MIN_ELEMENTS + DONT_EXISTS));
             } else if (newMinElements != null && oldMinElements < newMinElements) {
-                errors.add(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+                addError(minElementsError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                                 + MIN_ELEMENTS + newElementCountConstraint.get().getMinElements(),
                         oldSchemaIS.toSchemaNodeIdentifier() + MIN_ELEMENTS
                                 + oldElementCountConstraint.get().getMinElements()));
@@ -407,16 +536,15 @@ public class CheckUpdateFrom {
         }
     }
 
-    private boolean checkType(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode) {
+    private static boolean checkType(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode,
+            final List<TypeFinding> findings) {
         final TypeDefinition<?> oldBaseType = baseTypeOf(oldNode);
         final TypeDefinition<?> newBaseType = baseTypeOf(newNode);
 
         final String oldQname = oldBaseType.getQName().getLocalName();
         final String newQname = newBaseType.getQName().getLocalName();
         if (!oldQname.equals(newQname)) {
-            final String oldPath = buildTypeDefinitionPath(oldNode, oldSchemaIS);
-            final String newPath = buildTypeDefinitionPath(newNode, newSchemaIS);
-            errors.add(typeError().updateInformation(newPath + "\ntype: " + newQname,
+            findings.add((oldPath, newPath) -> typeError().updateInformation(newPath + "\ntype: " + newQname,
                     oldPath + "\ntype: " + oldQname));
             return true;
         }
@@ -426,7 +554,7 @@ public class CheckUpdateFrom {
     private void checkStatus(final Status oldStatus, final Status newStatus, final SchemaNodeIdentifier oldPath,
             final SchemaNodeIdentifier newPath) {
         if (oldStatus.compareTo(newStatus) > 0) {
-            errors.add(statusError().updateInformation(newPath + STATUS + newStatus,
+            addError(statusError().updateInformation(newPath + STATUS + newStatus,
                     oldPath + STATUS + oldStatus));
         }
     }
@@ -436,11 +564,11 @@ public class CheckUpdateFrom {
         final boolean newIsConfig = newNode.isConfiguration();
         if (!oldIsConfig && newIsConfig
                 && newNode instanceof MandatoryAware && ((MandatoryAware) newNode).isMandatory()) {
-            errors.add(illegalConfigStateError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+            addError(illegalConfigStateError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                             + CONFIG + "true mandatory true",
                     oldNode.getQName() + CONFIG + FALSE));
         } else if (oldIsConfig && !newIsConfig) {
-            errors.add(illegalConfigChangeError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+            addError(illegalConfigChangeError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                             + CONFIG + FALSE,
                     oldNode.getQName() + CONFIG + "true"));
         }
@@ -451,7 +579,7 @@ public class CheckUpdateFrom {
             final boolean oldMandatory = ((MandatoryAware) oldNode).isMandatory();
             final boolean newMandatory = ((MandatoryAware) newNode).isMandatory();
             if (!oldMandatory && newMandatory) {
-                errors.add(mandatoryError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
+                addError(mandatoryError().updateInformation(newSchemaIS.toSchemaNodeIdentifier()
                         + "\nmandatory: true", oldSchemaIS.toSchemaNodeIdentifier()
                         + "\nmandatroy: false"));
             }
@@ -464,7 +592,7 @@ public class CheckUpdateFrom {
             if (oldNode instanceof MustConstraintAware) {
                 checkOldAndNewMust(oldNode, newMust);
             } else {
-                errors.add(addedMustError().updateInformation(
+                addError(addedMustError().updateInformation(
                         newSchemaIS.toSchemaNodeIdentifier() + MUST + new ArrayList<>(newMust),
                         DONT_EXISTS));
             }
@@ -474,13 +602,13 @@ public class CheckUpdateFrom {
     private void checkOldAndNewMust(final DataSchemaNode oldNode, final Collection<? extends MustDefinition> newMust) {
         final Collection<? extends MustDefinition> oldMust = ((MustConstraintAware) oldNode).getMustConstraints();
         if (oldMust.size() < newMust.size()) {
-            errors.add(addedMustError().updateInformation(
+            addError(addedMustError().updateInformation(
                     newSchemaIS.toSchemaNodeIdentifier() + MUST + getXpathStringFromMustCollection(newMust),
                     oldSchemaIS.toSchemaNodeIdentifier() + MUST + getXpathStringFromMustCollection(oldMust)));
         } else {
             for (final MustDefinition newMustDefinition : newMust) {
                 if (!oldMust.contains(newMustDefinition)) {
-                    errors.add(checkMustWarning().updateInformation(
+                    addError(checkMustWarning().updateInformation(
                             newSchemaIS.toSchemaNodeIdentifier() + MUST + newMustDefinition.getXpath().toString(),
                             oldSchemaIS.toSchemaNodeIdentifier() + MUST + getXpathStringFromMustCollection(oldMust)));
                 }
@@ -498,12 +626,12 @@ public class CheckUpdateFrom {
         final Optional<? extends QualifiedBound> newWhen = newNode.getWhenCondition();
         final Optional<? extends QualifiedBound> oldWhen = oldNode.getWhenCondition();
         if (oldWhen.isEmpty() && newWhen.isPresent()) {
-            errors.add(addedWhenError().updateInformation(
+            addError(addedWhenError().updateInformation(
                     newSchemaIS.toSchemaNodeIdentifier() + WHEN + newWhen.get(),
                     oldSchemaIS.toSchemaNodeIdentifier() + WHEN + DONT_EXISTS));
         } else if (oldWhen.isPresent() && newWhen.isPresent()
                 && !oldWhen.get().toString().equals(newWhen.get().toString())) {
-            errors.add(checkWhenWarning().updateInformation(
+            addError(checkWhenWarning().updateInformation(
                     newSchemaIS.toSchemaNodeIdentifier() + WHEN + newWhen.get(),
                     oldSchemaIS.toSchemaNodeIdentifier() + WHEN + oldWhen.get()));
         }
@@ -511,65 +639,76 @@ public class CheckUpdateFrom {
 
     private void checkReference(final Optional<String> oldReference, final Optional<String> newReference) {
         if (oldReference.isPresent() && newReference.isEmpty()) {
-            errors.add(referenceError().updateInformation(DONT_EXISTS, oldReference.get()));
+            addError(referenceError().updateInformation(DONT_EXISTS, oldReference.get()));
+        }
+    }
+
+    private static void checkTypeReference(final Optional<String> oldReference,
+            final Optional<String> newReference, final List<TypeFinding> findings) {
+        if (oldReference.isPresent() && newReference.isEmpty()) {
+            final String reference = oldReference.get();
+            findings.add((oldPath, newPath) -> referenceError().updateInformation(DONT_EXISTS, reference));
         }
     }
 
-    private void checkUnits(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode) {
+    private static void checkUnits(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode,
+            final List<TypeFinding> findings) {
         final Optional<String> oldUnit = oldNode.getUnits();
         final Optional<String> newUnit = newNode.getUnits();
         if (oldUnit.isPresent() && newUnit.isEmpty()) {
-            final String oldPath = buildTypeDefinitionPath(oldNode, oldSchemaIS);
-            errors.add(unitsError().updateInformation(DONT_EXISTS,
-                    oldPath + "\nunits: " + oldUnit.get()));
+            final String units = oldUnit.get();
+            findings.add((oldPath, newPath) -> unitsError().updateInformation(DONT_EXISTS,
+                    oldPath + "\nunits: " + units));
         }
     }
 
-    private void checkDefault(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode) {
+    private static void checkDefault(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode,
+            final List<TypeFinding> findings) {
         final Optional<?> oldDefault = oldNode.getDefaultValue();
         final Optional<?> newDefault = newNode.getDefaultValue();
         if (oldDefault.isPresent() && (newDefault.isEmpty() || !oldDefault.get().equals(newDefault.get()))) {
-            final String oldPath = buildTypeDefinitionPath(oldNode, oldSchemaIS);
-            errors.add(defaultError().updateInformation(DONT_EXISTS,
-                    oldPath + "\ndefault: " + oldDefault.get()));
+            final Object defaultValue = oldDefault.get();
+            findings.add((oldPath, newPath) -> defaultError().updateInformation(DONT_EXISTS,
+                    oldPath + "\ndefault: " + defaultValue));
         }
     }
 
-    private void checkRange(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode) {
+    private static void checkRange(final TypeDefinition<?> oldNode, final TypeDefinition<?> newNode,
+            final List<TypeFinding> findings) {
         final var oldRange = ((RangeRestrictedTypeDefinition<?, ?>) oldNode).getRangeConstraint();
         final var newRange = ((RangeRestrictedTypeDefinition<?, ?>) newNode).getRangeConstraint();
         if (oldRange.isPresent()) {
-            final String oldPath = buildTypeDefinitionPath(oldNode, oldSchemaIS);
-            final String newPath = buildTypeDefinitionPath(newNode, newSchemaIS);
             if (newRange.isEmpty()) {
-                errors.add(rangeError().updateInformation(DONT_EXISTS, oldPath + RANGES + oldRange.get()));
+                final RangeConstraint<?> oldRangeConstraint = oldRange.get();
+                findings.add((oldPath, newPath) -> rangeError().updateInformation(DONT_EXISTS,
+                        oldPath + RANGES + oldRangeConstraint));
             } else {
                 final RangeConstraint<?> oldRangeConstraint = oldRange.get();
                 final RangeConstraint<?> newRangeConstraint = newRange.get();
                 final Set<? extends Range<?>> newRangeSet = newRangeConstraint.getAllowedRanges().asRanges();
                 final Set<? extends Range<?>> oldRangeSet = oldRangeConstraint.getAllowedRanges().asRanges();
                 if (newRangeSet.containsAll(oldRangeSet)) {
-                    checkReference(oldRangeConstraint.getReference(), newRangeConstraint.getReference());
+                    checkTypeReference(oldRangeConstraint.getReference(), newRangeConstraint.getReference(),
+                            findings);
                 } else {
-                    errors.add(rangeError().updateInformation(newPath + RANGES + newRangeSet,
+                    findings.add((oldPath, newPath) -> rangeError().updateInformation(newPath + RANGES + newRangeSet,
                             oldPath + RANGES + oldRangeSet));
                 }
             }
         }
     }
 
-    private void checkLength(final LengthRestrictedTypeDefinition<?> oldNode,
-            final LengthRestrictedTypeDefinition<?> newNode) {
+    private static void checkLength(final LengthRestrictedTypeDefinition<?> oldNode,
+            final LengthRestrictedTypeDefinition<?> newNode, final List<TypeFinding> findings) {
         final Optional<LengthConstraint> oldLengths = oldNode.getLengthConstraint();
         final Optional<LengthConstraint> newLengths = newNode.getLengthConstraint();
-        final String oldPath = buildTypeDefinitionPath(oldNode, oldSchemaIS);
-        final String newPath = buildTypeDefinitionPath(newNode, newSchemaIS);
 
         if (oldLengths.isPresent()) {
             if (newLengths.isEmpty()) {
                 if (!oldLengths.get().getAllowedRanges().equals(INTEGER_ALLOWED_RANGES)) {
-                    errors.add(lengthError().updateInformation(DONT_EXISTS, oldPath + LENGTH
-                                    + oldLengths.get().getAllowedRanges().toString()));
+                    final String oldAllowedRanges = oldLengths.get().getAllowedRanges().toString();
+                    findings.add((oldPath, newPath) -> lengthError().updateInformation(DONT_EXISTS,
+                            oldPath + LENGTH + oldAllowedRanges));
                 }
             } else {
                 final LengthConstraint oldLengthConstraint = oldLengths.get();
@@ -577,25 +716,29 @@ public class CheckUpdateFrom {
                 final Set<Range<Integer>> newRangeSet = newLengthConstraint.getAllowedRanges().asRanges();
                 final Set<Range<Integer>> oldRangeSet = oldLengthConstraint.getAllowedRanges().asRanges();
                 if (newRangeSet.containsAll(oldRangeSet)) {
-                    checkReference(oldLengthConstraint.getReference(), newLengthConstraint.getReference());
+                    checkTypeReference(oldLengthConstraint.getReference(), newLengthConstraint.getReference(),
+                            findings);
                 } else {
-                    errors.add(lengthError().updateInformation(newPath + LENGTH + newRangeSet,
+                    findings.add((oldPath, newPath) -> lengthError().updateInformation(newPath + LENGTH + newRangeSet,
                             oldPath + LENGTH + oldRangeSet));
                 }
             }
         }
     }
 
-    private void checkPattern(final StringTypeDefinition oldNode, final StringTypeDefinition newNode) {
+    private void checkPattern(final StringTypeDefinition oldNode, final StringTypeDefinition newNode,
+            final List<TypeFinding> findings) {
         final List<PatternConstraint> oldPatterns = oldNode.getPatternConstraints();
         final List<PatternConstraint> newPatterns = newNode.getPatternConstraints();
         if (isPatternConstraintListSame(newPatterns, oldPatterns)) {
             for (int i = 0; i < oldPatterns.size(); i++) {
-                checkReference(oldPatterns.get(i).getReference(), newPatterns.get(i).getReference());
+                checkTypeReference(oldPatterns.get(i).getReference(), newPatterns.get(i).getReference(), findings);
             }
         } else {
-            errors.add(patternError().updateInformation(patterConstraintListToString(newPatterns),
-                    patterConstraintListToString(oldPatterns)));
+            final String newPatternsString = patterConstraintListToString(newPatterns);
+            final String oldPatternsString = patterConstraintListToString(oldPatterns);
+            findings.add((oldPath, newPath) -> patternError().updateInformation(newPatternsString,
+                    oldPatternsString));
         }
     }
 
@@ -645,46 +788,59 @@ public class CheckUpdateFrom {
         return stringBuilder.toString();
     }
 
-    private void checkBits(final BitsTypeDefinition oldNode, final BitsTypeDefinition newNode) {
+    private static void checkBits(final BitsTypeDefinition oldNode, final BitsTypeDefinition newNode,
+            final List<TypeFinding> findings) {
         final Collection<? extends BitsTypeDefinition.Bit> oldBits = oldNode.getBits();
         final Collection<? extends BitsTypeDefinition.Bit> newBits = newNode.getBits();
+        final Map<String, BitsTypeDefinition.Bit> newBitsByName = new HashMap<>();
+        for (final BitsTypeDefinition.Bit newBit : newBits) {
+            newBitsByName.put(newBit.getName(), newBit);
+        }
         for (final BitsTypeDefinition.Bit oldBit : oldBits) {
-            boolean sameBit = false;
-            for (final BitsTypeDefinition.Bit newBit : newBits) {
-                if (oldBit.getName().equals(newBit.getName()) && oldBit.getPosition().equals(newBit.getPosition())) {
-                    checkReference(oldBit.getReference(), newBit.getReference());
-                    sameBit = true;
-                }
-            }
-            if (!sameBit) {
-                errors.add(missingBitError().updateInformation(newBits.toString(), oldBits.toString()));
+            final BitsTypeDefinition.Bit newBit = newBitsByName.get(oldBit.getName());
+            if (newBit != null && oldBit.getPosition().equals(newBit.getPosition())) {
+                checkTypeReference(oldBit.getReference(), newBit.getReference(), findings);
+            } else {
+                final String newBitsString = newBits.toString();
+                final String oldBitsString = oldBits.toString();
+                findings.add((oldPath, newPath) -> missingBitError().updateInformation(newBitsString,
+                        oldBitsString));
             }
         }
     }
 
-    private void checkEnumeration(final EnumTypeDefinition oldNode, final EnumTypeDefinition newNode) {
+    private static void checkEnumeration(final EnumTypeDefinition oldNode, final EnumTypeDefinition newNode,
+            final List<TypeFinding> findings) {
         final List<EnumTypeDefinition.EnumPair> oldValues = oldNode.getValues();
         final List<EnumTypeDefinition.EnumPair> newValues = newNode.getValues();
-        if (newValues.containsAll(oldValues)) {
+        final Map<EnumTypeDefinition.EnumPair, EnumTypeDefinition.EnumPair> newEnums = new HashMap<>();
+        for (final EnumTypeDefinition.EnumPair newEnum : newValues) {
+            newEnums.putIfAbsent(newEnum, newEnum);
+        }
+        if (newEnums.keySet().containsAll(oldValues)) {
             for (final EnumTypeDefinition.EnumPair oldEnum : oldValues) {
-                checkReference(oldEnum.getReference(), newValues.get(newValues.indexOf(oldEnum)).getReference());
+                checkTypeReference(oldEnum.getReference(), newEnums.get(oldEnum).getReference(), findings);
             }
         } else {
-            errors.add(missingEnumError().updateInformation(newValues.toString(), oldValues.toString()));
+            final String newValuesString = newValues.toString();
+            final String oldValuesString = oldValues.toString();
+            findings.add((oldPath, newPath) -> missingEnumError().updateInformation(newValuesString,
+                    oldValuesString));
         }
     }
 
     private DataSchemaNode getNodeFromNewModule(final Absolute nodeAbsolutePath) {
-        final List<QName> finalList = new LinkedList<>();
-        for (final QName qname : nodeAbsolutePath.getNodeIdentifiers()) {
-            finalList.add(QName.create(newModule.getNamespace(), newModule.getRevision(), qname.getLocalName()));
+        final List<QName> nodeIdentifiers = nodeAbsolutePath.getNodeIdentifiers();
+        final List<String> path = new ArrayList<>(nodeIdentifiers.size());
+        for (final QName qname : nodeIdentifiers) {
+            path.add(qname.getLocalName());
         }
 
-        final Optional<DataSchemaNode> dataChildByName = newModule.findDataTreeChild(finalList);
-        if (dataChildByName.isPresent()) {
-            return dataChildByName.get();
+        final DataSchemaNode dataChildByName = newDataTree.get(path);
+        if (dataChildByName != null) {
+            return dataChildByName;
         } else {
-            errors.add(missingNodeError().updateInformation("missing node",
+            addError(missingNodeError().updateInformation("missing node",
                     oldSchemaIS.toSchemaNodeIdentifier().toString()));
             return null;
         }
@@ -694,11 +850,11 @@ public class CheckUpdateFrom {
         final Optional<Revision> newOptionalRevision = newModule.getRevision();
         final Optional<Revision> oldOptionalRevision = oldModule.getRevision();
         if (newOptionalRevision.isEmpty()) {
-            errors.add(missingRevision());
+            addError(missingRevision());
         } else {
             final Revision revision = newOptionalRevision.get();
             if (oldOptionalRevision.isPresent() && revision.compareTo(oldOptionalRevision.get()) < 1) {
-                errors.add(revisionError().updateInformation(revision.toString(),
+                addError(revisionError().updateInformation(revision.toString(),
                         oldOptionalRevision.get().toString()));
             }
 
@@ -713,7 +869,7 @@ public class CheckUpdateFrom {
                     .collect(Collectors.toList());
             for (final RevisionStatement oldRev : revisionsOld) {
                 if (!newDates.contains(oldRev.argument())) {
-                    errors.add(missingOldRevision().updateInformation(DONT_EXISTS, oldRev.argument().toString()));
+                    addError(missingOldRevision().updateInformation(DONT_EXISTS, oldRev.argument().toString()));
                 }
             }
         }
@@ -721,13 +877,13 @@ public class CheckUpdateFrom {
 
     private void checkName() {
         if (!newModule.getName().equals(oldModule.getName())) {
-            errors.add(nameError().updateInformation(newModule.getName(), oldModule.getName()));
+            addError(nameError().updateInformation(newModule.getName(), oldModule.getName()));
         }
     }
 
     private void checkNamespace() {
         if (!newModule.getNamespace().equals(oldModule.getNamespace())) {
-            errors.add(namespaceError().updateInformation(newModule.getNamespace().toString(),
+            addError(namespaceError().updateInformation(newModule.getNamespace().toString(),
                     oldModule.getNamespace().toString()));
         }
     }
@@ -744,6 +900,10 @@ public class CheckUpdateFrom {
                         + " according to which check will be processed.",
                 Collections.singletonList("--rfc-version"), false, "?", 6020,
                 new CollectionArgumentChoice<>(Arrays.asList(6020, 7950)), Integer.TYPE);
+        groupArguments.addOption("Stop at the first backward incompatible change and exit with status "
+                        + INCOMPATIBLE_UPDATE_EXIT_CODE + ".",
+                Collections.singletonList("--fail-fast"), true, null, null,
+                new CollectionArgumentChoice<>(Collections.emptyList()), Boolean.TYPE);
         return groupArguments;
     }
 
@@ -758,4 +918,51 @@ public class CheckUpdateFrom {
         return String.format("%s TypeDefinition: [%s]", schemaIS.toSchemaNodeIdentifier(),
                 typeDefinition.getQName());
     }
+
+    /**
+     * Thrown to stop the check at the first backward incompatible change.
+     */
+    private static final class IncompatibleChangeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        IncompatibleChangeException() {
+            // only unwinds the check, stack trace is not needed
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Error found by comparison of types, created with paths of the node the types belong to.
+     */
+    @FunctionalInterface
+    private interface TypeFinding {
+
+        CheckUpdateFromErrorRFC6020 toError(String oldPath, String newPath);
+    }
+
+    /**
+     * Pair of compared types, equal only to the pair of the very same type objects.
+     */
+    private static final class TypePair {
+
+        private final TypeDefinition<?> oldType;
+        private final TypeDefinition<?> newType;
+
+        TypePair(final TypeDefinition<?> oldType, final TypeDefinition<?> newType) {
+            this.oldType = oldType;
+            this.newType = newType;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof TypePair && ((TypePair) obj).oldType == oldType
+                    && ((TypePair) obj).newType == newType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(oldType) + System.identityHashCode(newType);
+        }
+    }
 }
@@ -17,6 +17,7 @@ class CheckUpdateFromErrorRFC6020 {
     private static final Logger LOG = LoggerFactory.getLogger(CheckUpdateFromErrorRFC6020.class);
     private final String name;
     private final String description;
+    private final boolean warning;
     private String newInformation;
     private String oldInformation;
 
@@ -101,7 +102,8 @@ class CheckUpdateFromErrorRFC6020 {
     static CheckUpdateFromErrorRFC6020 checkMustWarning() {
         return new CheckUpdateFromErrorRFC6020("check must warning",
                 "a \"must\" statement may be removed or its constraint relaxed. \"Must\" exists and might have"
-                        + " been relaxed but should be check by user if the constraint isn t changed or more strict.");
+                        + " been relaxed but should be check by user if the constraint isn t changed or more strict.",
+                true);
     }
 
     static CheckUpdateFromErrorRFC6020 mandatoryError() {
@@ -147,8 +149,13 @@ class CheckUpdateFromErrorRFC6020 {
     }
 
     protected CheckUpdateFromErrorRFC6020(final String name, final String description) {
+        this(name, description, false);
+    }
+
+    protected CheckUpdateFromErrorRFC6020(final String name, final String description, final boolean warning) {
         this.name = name;
         this.description = description;
+        this.warning = warning;
         this.newInformation = "";
         this.oldInformation = "";
     }
@@ -159,6 +166,15 @@ class CheckUpdateFromErrorRFC6020 {
         return this;
     }
 
+    /**
+     * Check if this is only a warning about a change which should be checked by user.
+     *
+     * @return true if the change may be backward compatible, false if it is backward incompatible
+     */
+    boolean isWarning() {
+        return warning;
+    }
+
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
                         justification = "Valid output from LYV is dependent on Logback output")
     void print(final int order) {
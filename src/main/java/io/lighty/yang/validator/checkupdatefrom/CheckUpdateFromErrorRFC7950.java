@@ -17,7 +17,7 @@ final class CheckUpdateFromErrorRFC7950 extends CheckUpdateFromErrorRFC6020 {
     static CheckUpdateFromErrorRFC7950 checkWhenWarning() {
         return new CheckUpdateFromErrorRFC7950("check when warning",
                 "a \"when\" statement may be removed or its constraint relaxed. \"When\" exists and might have been"
-                        + " relaxed but should be check by user if the constraint isn t changed or more strict.");
+                        + " relaxed but should be check by user if the constraint isn t changed or more strict.", true);
     }
 
     static CheckUpdateFromErrorRFC7950 missingBaseIdentityError() {
@@ -45,4 +45,8 @@ final class CheckUpdateFromErrorRFC7950 extends CheckUpdateFromErrorRFC6020 {
     private CheckUpdateFromErrorRFC7950(final String name, final String description) {
         super(name, description);
     }
+
+    private CheckUpdateFromErrorRFC7950(final String name, final String description, final boolean warning) {
+        super(name, description, warning);
+    }
 }
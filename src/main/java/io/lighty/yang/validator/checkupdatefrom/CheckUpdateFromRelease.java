@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.checkupdatefrom;
+
+import io.lighty.yang.validator.exceptions.LyvApplicationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleLike;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks update of all the modules of a release. Modules of the old and the new release are paired by name, newest
+ * revision of the module is taken from each release, and each pair is checked by {@link CheckUpdateFrom} in parallel.
+ * Modules present in only one of the releases are reported as removed or added. Pairs with the same revision and
+ * the same statements, including statements of their submodules, are reported as unchanged without being checked.
+ */
+public class CheckUpdateFromRelease {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckUpdateFromRelease.class);
+
+    private final EffectiveModelContext newContext;
+    private final EffectiveModelContext oldContext;
+    private final Map<String, Module> newModules;
+    private final Map<String, Module> oldModules;
+    private final int rfcVersion;
+    private final List<ModuleResult> results = new ArrayList<>();
+
+    public CheckUpdateFromRelease(final EffectiveModelContext newContext, final Collection<Module> newModules,
+            final EffectiveModelContext oldContext, final Collection<Module> oldModules, final int rfcVersion) {
+        this.newContext = newContext;
+        this.oldContext = oldContext;
+        this.newModules = newestByName(newModules);
+        this.oldModules = newestByName(oldModules);
+        this.rfcVersion = rfcVersion;
+    }
+
+    private static Map<String, Module> newestByName(final Collection<Module> modules) {
+        final Map<String, Module> byName = new TreeMap<>();
+        for (final Module module : modules) {
+            byName.merge(module.getName(), module, (first, second) ->
+                    Revision.compare(first.getRevision(), second.getRevision()) >= 0 ? first : second);
+        }
+        return byName;
+    }
+
+    /**
+     * Check all the pairs of modules. Results are kept in the order of module names.
+     *
+     * @throws LyvApplicationException if a check fails or the validation is interrupted
+     */
+    public void validate() throws LyvApplicationException {
+        final Set<String> names = new TreeSet<>(oldModules.keySet());
+        names.addAll(newModules.keySet());
+        final int workers = Math.max(1, Math.min(names.size(), Runtime.getRuntime().availableProcessors()));
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            final List<Future<ModuleResult>> futures = new ArrayList<>();
+            for (final String name : names) {
+                futures.add(executor.submit(() -> checkModule(name)));
+            }
+            for (final Future<ModuleResult> future : futures) {
+                results.add(getModuleResult(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ModuleResult checkModule(final String name) {
+        final Module newModule = newModules.get(name);
+        final Module oldModule = oldModules.get(name);
+        if (newModule == null || oldModule == null) {
+            return new ModuleResult(name, null, newModule == null);
+        }
+        if (isUnchanged(newModule, oldModule)) {
+            // the check would report only the revision which was not updated
+            return new ModuleResult(name, null, false, true);
+        }
+        // schema inference stacks of the check are its own, contexts are only read
+        final CheckUpdateFrom checkUpdateFrom = new CheckUpdateFrom(newContext, newModule, oldContext, name,
+                rfcVersion);
+        checkUpdateFrom.validate();
+        return new ModuleResult(name, checkUpdateFrom, false);
+    }
+
+    private static boolean isUnchanged(final ModuleLike newModule, final ModuleLike oldModule) {
+        if (!newModule.getRevision().equals(oldModule.getRevision())
+                || !isSameStatement(((EffectiveStatement<?, ?>) newModule).getDeclared(),
+                        ((EffectiveStatement<?, ?>) oldModule).getDeclared())) {
+            return false;
+        }
+        final Map<String, Submodule> oldSubmodules = new TreeMap<>();
+        for (final Submodule submodule : oldModule.getSubmodules()) {
+            oldSubmodules.put(submodule.getName(), submodule);
+        }
+        if (oldSubmodules.size() != newModule.getSubmodules().size()) {
+            return false;
+        }
+        for (final Submodule submodule : newModule.getSubmodules()) {
+            final Submodule oldSubmodule = oldSubmodules.get(submodule.getName());
+            if (oldSubmodule == null || !isUnchanged(submodule, oldSubmodule)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameStatement(final DeclaredStatement<?> newStatement,
+            final DeclaredStatement<?> oldStatement) {
+        if (!newStatement.statementDefinition().getStatementName()
+                .equals(oldStatement.statementDefinition().getStatementName())
+                || !Objects.equals(newStatement.rawArgument(), oldStatement.rawArgument())
+                || newStatement.declaredSubstatements().size() != oldStatement.declaredSubstatements().size()) {
+            return false;
+        }
+        final Iterator<? extends DeclaredStatement<?>> oldSubstatements =
+                oldStatement.declaredSubstatements().iterator();
+        for (final DeclaredStatement<?> newSubstatement : newStatement.declaredSubstatements()) {
+            if (!isSameStatement(newSubstatement, oldSubstatements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ModuleResult getModuleResult(final Future<ModuleResult> future) throws LyvApplicationException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            throw new LyvApplicationException("Failed to check update of release", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LyvApplicationException("Interrupted while checking update of release", e);
+        }
+    }
+
+    /**
+     * Print verdict of each module followed by its errors and a summary of the release.
+     */
+    public void printReport() {
+        int unchanged = 0;
+        int compatible = 0;
+        int incompatible = 0;
+        int removed = 0;
+        int added = 0;
+        for (final ModuleResult result : results) {
+            if (result.removed) {
+                removed++;
+                LOG.error("{}: removed from the new release", result.name);
+            } else if (result.unchanged) {
+                unchanged++;
+                LOG.info("{}: unchanged", result.name);
+            } else if (result.checkUpdateFrom == null) {
+                added++;
+                LOG.info("{}: added in the new release", result.name);
+            } else if (result.checkUpdateFrom.getErrorCount() == 0) {
+                compatible++;
+                LOG.info("{}: compatible", result.name);
+            } else {
+                incompatible++;
+                LOG.error("{}: {} errors", result.name, result.checkUpdateFrom.getErrorCount());
+                result.checkUpdateFrom.printErrors();
+            }
+        }
+        LOG.info("Checked {} modules: {} unchanged, {} compatible, {} with errors, {} removed, {} added",
+                results.size(), unchanged, compatible, incompatible, removed, added);
+    }
+
+    /**
+     * Get number of modules which are removed from the new release or have errors.
+     *
+     * @return number of incompatible modules
+     */
+    public int getIncompatibleCount() {
+        return (int) results.stream()
+                .filter(result -> result.removed
+                        || result.checkUpdateFrom != null && result.checkUpdateFrom.getErrorCount() > 0)
+                .count();
+    }
+
+    private static final class ModuleResult {
+
+        private final String name;
+        private final CheckUpdateFrom checkUpdateFrom;
+        private final boolean removed;
+        private final boolean unchanged;
+
+        ModuleResult(final String name, final CheckUpdateFrom checkUpdateFrom, final boolean removed) {
+            this(name, checkUpdateFrom, removed, false);
+        }
+
+        ModuleResult(final String name, final CheckUpdateFrom checkUpdateFrom, final boolean removed,
+                final boolean unchanged) {
+            this.name = name;
+            this.checkUpdateFrom = checkUpdateFrom;
+            this.removed = removed;
+            this.unchanged = unchanged;
+        }
+    }
+}
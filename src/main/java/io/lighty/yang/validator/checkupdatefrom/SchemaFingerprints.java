@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.checkupdatefrom;
+
+import static org.opendaylight.yangtools.yang.model.ri.type.BaseTypes.baseTypeOf;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ElementCountConstraintAware;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.MandatoryAware;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.MustConstraintAware;
+import org.opendaylight.yangtools.yang.model.api.TypeAware;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LengthRestrictedTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+import org.opendaylight.yangtools.yang.model.api.type.RangeRestrictedTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+
+/**
+ * Structural fingerprints of data tree subtrees of a module. Fingerprint of a node covers its kind, local name,
+ * type, constraints, when, config, status and reference, and fingerprints of its children, so two subtrees with
+ * the same fingerprint are the same for {@link CheckUpdateFrom}. All fingerprints of a module are computed
+ * in one pass when created.
+ *
+ * <p>Subtrees which are always reported by {@link CheckUpdateFrom} even when they did not change have
+ * no fingerprint. These are subtrees containing must constraints, choices or nodes of other modules.
+ */
+public final class SchemaFingerprints {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private final Map<DataSchemaNode, HashCode> fingerprints = new IdentityHashMap<>();
+    private final QNameModule module;
+
+    private SchemaFingerprints(final Module module) {
+        this.module = module.getQNameModule();
+    }
+
+    /**
+     * Compute fingerprints of all data tree nodes of the module.
+     *
+     * @param module module to compute fingerprints for
+     * @return fingerprints of the module
+     */
+    public static SchemaFingerprints of(final Module module) {
+        final SchemaFingerprints schemaFingerprints = new SchemaFingerprints(module);
+        for (final DataSchemaNode child : module.getChildNodes()) {
+            schemaFingerprints.computeFingerprint(child);
+        }
+        return schemaFingerprints;
+    }
+
+    /**
+     * Get fingerprint of the subtree.
+     *
+     * @param node data tree node of the module
+     * @return fingerprint of the subtree rooted at the node, empty if the node has no fingerprint
+     */
+    public Optional<HashCode> getFingerprint(final DataSchemaNode node) {
+        return Optional.ofNullable(fingerprints.get(node));
+    }
+
+    /**
+     * Check if subtrees of both nodes have the same fingerprint.
+     *
+     * @param node      data tree node of this module
+     * @param other     fingerprints of the other module
+     * @param otherNode data tree node of the other module
+     * @return true if both nodes have fingerprints and they are equal
+     */
+    public boolean isSameSubtree(final DataSchemaNode node, final SchemaFingerprints other,
+            final DataSchemaNode otherNode) {
+        final HashCode fingerprint = fingerprints.get(node);
+        return fingerprint != null && fingerprint.equals(other.fingerprints.get(otherNode));
+    }
+
+    private HashCode computeFingerprint(final DataSchemaNode node) {
+        final List<HashCode> children = new ArrayList<>();
+        boolean complete = true;
+        if (node instanceof DataNodeContainer) {
+            // children are computed even if this node has no fingerprint, they may still be compared
+            for (final DataSchemaNode child : ((DataNodeContainer) node).getChildNodes()) {
+                final HashCode childFingerprint = computeFingerprint(child);
+                if (childFingerprint == null) {
+                    complete = false;
+                }
+                children.add(childFingerprint);
+            }
+        }
+        final String kind = kindOf(node);
+        if (!complete || kind == null || !node.getQName().getModule().equals(module) || hasMust(node)) {
+            return null;
+        }
+
+        final Hasher hasher = HASH_FUNCTION.newHasher();
+        putString(hasher, kind);
+        putString(hasher, node.getQName().getLocalName());
+        hasher.putBoolean(node.isConfiguration());
+        putString(hasher, node.getStatus().toString());
+        putOptional(hasher, node.getReference());
+        putOptional(hasher, node.getWhenCondition());
+        if (node instanceof MandatoryAware) {
+            hasher.putBoolean(((MandatoryAware) node).isMandatory());
+        }
+        if (node instanceof ElementCountConstraintAware) {
+            final var elementCount = ((ElementCountConstraintAware) node).getElementCountConstraint();
+            hasher.putBoolean(elementCount.isPresent());
+            if (elementCount.isPresent()) {
+                putString(hasher, String.valueOf(elementCount.get().getMinElements()));
+                putString(hasher, String.valueOf(elementCount.get().getMaxElements()));
+            }
+        }
+        if (node instanceof ListSchemaNode) {
+            final List<QName> keys = ((ListSchemaNode) node).getKeyDefinition();
+            hasher.putInt(keys.size());
+            for (final QName key : keys) {
+                putString(hasher, key.getLocalName());
+            }
+        }
+        if (node instanceof TypeAware && !putType(hasher, ((TypeAware) node).getType())) {
+            return null;
+        }
+        hasher.putInt(children.size());
+        for (final HashCode child : children) {
+            hasher.putBytes(child.asBytes());
+        }
+        final HashCode fingerprint = hasher.hash();
+        fingerprints.put(node, fingerprint);
+        return fingerprint;
+    }
+
+    private static boolean hasMust(final DataSchemaNode node) {
+        // must definitions are not equal across contexts, so CheckUpdateFrom warns about them even if unchanged
+        return node instanceof MustConstraintAware && !((MustConstraintAware) node).getMustConstraints().isEmpty();
+    }
+
+    private static String kindOf(final DataSchemaNode node) {
+        if (node instanceof ContainerSchemaNode) {
+            return "container";
+        } else if (node instanceof ListSchemaNode) {
+            return "list";
+        } else if (node instanceof LeafSchemaNode) {
+            return "leaf";
+        } else if (node instanceof LeafListSchemaNode) {
+            return "leaf-list";
+        } else if (node instanceof AnyxmlSchemaNode) {
+            return "anyxml";
+        } else if (node instanceof AnydataSchemaNode) {
+            return "anydata";
+        }
+        // choices are never matched by CheckUpdateFrom
+        return null;
+    }
+
+    private static boolean putType(final Hasher hasher, final TypeDefinition<?> type) {
+        putString(hasher, baseTypeOf(type).getQName().getLocalName());
+        putOptional(hasher, type.getReference());
+        putOptional(hasher, type.getDefaultValue());
+        putOptional(hasher, type.getUnits());
+        if (type instanceof IdentityrefTypeDefinition) {
+            final var identities = ((IdentityrefTypeDefinition) type).getIdentities();
+            if (identities.isEmpty()) {
+                return false;
+            }
+            hasher.putInt(identities.size());
+            for (final IdentitySchemaNode identity : identities) {
+                putString(hasher, identity.getQName().getLocalName());
+            }
+        }
+        if (type instanceof LengthRestrictedTypeDefinition) {
+            final var length = ((LengthRestrictedTypeDefinition<?>) type).getLengthConstraint();
+            hasher.putBoolean(length.isPresent());
+            if (length.isPresent()) {
+                putString(hasher, length.get().getAllowedRanges().toString());
+                putOptional(hasher, length.get().getReference());
+            }
+        }
+        if (type instanceof RangeRestrictedTypeDefinition) {
+            final var range = ((RangeRestrictedTypeDefinition<?, ?>) type).getRangeConstraint();
+            hasher.putBoolean(range.isPresent());
+            if (range.isPresent()) {
+                putString(hasher, range.get().getAllowedRanges().toString());
+                putOptional(hasher, range.get().getReference());
+            }
+        }
+        if (type instanceof EnumTypeDefinition) {
+            final List<EnumTypeDefinition.EnumPair> values = ((EnumTypeDefinition) type).getValues();
+            hasher.putInt(values.size());
+            for (final EnumTypeDefinition.EnumPair value : values) {
+                putString(hasher, value.getName());
+                hasher.putInt(value.getValue());
+                putOptional(hasher, value.getDescription());
+                putOptional(hasher, value.getReference());
+                putString(hasher, value.getStatus().toString());
+            }
+        } else if (type instanceof BitsTypeDefinition) {
+            final Collection<? extends BitsTypeDefinition.Bit> bits = ((BitsTypeDefinition) type).getBits();
+            hasher.putInt(bits.size());
+            for (final BitsTypeDefinition.Bit bit : bits) {
+                putString(hasher, bit.getName());
+                putString(hasher, bit.getPosition().toString());
+                putOptional(hasher, bit.getDescription());
+                putOptional(hasher, bit.getReference());
+                putString(hasher, bit.getStatus().toString());
+            }
+        } else if (type instanceof StringTypeDefinition) {
+            final List<PatternConstraint> patterns = ((StringTypeDefinition) type).getPatternConstraints();
+            hasher.putInt(patterns.size());
+            for (final PatternConstraint pattern : patterns) {
+                putString(hasher, pattern.getJavaPatternString());
+                putString(hasher, pattern.getRegularExpressionString());
+                putOptional(hasher, pattern.getErrorMessage());
+                putOptional(hasher, pattern.getErrorAppTag());
+                putOptional(hasher, pattern.getDescription());
+                putOptional(hasher, pattern.getReference());
+            }
+        }
+        return true;
+    }
+
+    private static void putOptional(final Hasher hasher, final Optional<?> value) {
+        hasher.putBoolean(value.isPresent());
+        value.ifPresent(present -> putString(hasher, present.toString()));
+    }
+
+    private static void putString(final Hasher hasher, final String value) {
+        // length keeps adjacent strings from being ambiguous
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.config;
+
+import java.util.Set;
+
+public class AnalyzerConfiguration {
+
+    private final boolean perModule;
+    private final Set<String> includedKeywords;
+    private final Set<String> excludedKeywords;
+
+    AnalyzerConfiguration(final boolean perModule, final Set<String> includedKeywords,
+            final Set<String> excludedKeywords) {
+        this.perModule = perModule;
+        this.includedKeywords = includedKeywords;
+        this.excludedKeywords = excludedKeywords;
+    }
+
+    public boolean isPerModule() {
+        return perModule;
+    }
+
+    public Set<String> getIncludedKeywords() {
+        return includedKeywords;
+    }
+
+    public Set<String> getExcludedKeywords() {
+        return excludedKeywords;
+    }
+}
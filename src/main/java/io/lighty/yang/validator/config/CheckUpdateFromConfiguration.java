@@ -13,10 +13,13 @@ public class CheckUpdateFromConfiguration {
 
     private final int rfcVersion;
     private final List<String> checkUpdateFromPath;
+    private final boolean failFast;
 
-    CheckUpdateFromConfiguration(final int rfcVersion, final List<String> checkUpdateFromPath) {
+    CheckUpdateFromConfiguration(final int rfcVersion, final List<String> checkUpdateFromPath,
+            final boolean failFast) {
         this.checkUpdateFromPath = checkUpdateFromPath;
         this.rfcVersion = rfcVersion;
+        this.failFast = failFast;
     }
 
     public int getRfcVersion() {
@@ -26,4 +29,8 @@ public class CheckUpdateFromConfiguration {
     public List<String> getCheckUpdateFromPath() {
         return checkUpdateFromPath;
     }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
 }
@@ -15,9 +15,16 @@ import org.opendaylight.yangtools.yang.common.QName;
 public class Configuration {
 
     private String output;
+    private OutputCompression outputCompression = OutputCompression.NONE;
     private String format;
     private String simplify;
+    private boolean simplifyTrackingOnly;
+    private int simplifySample;
+    private List<String> simplifyProfiles = List.of();
+    private String simplifyProfileOutput;
     private String checkUpdateFrom;
+    private List<String> checkUpdateFromRelease = List.of();
+    private List<String> validateData = List.of();
     private boolean debug;
     private boolean quiet;
     private boolean recursive;
@@ -27,6 +34,7 @@ public class Configuration {
     private Set<QName> supportedFeatures = Set.of();
     private List<String> parseAll = List.of();
     private DependConfiguration dependConfiguration;
+    private AnalyzerConfiguration analyzerConfiguration;
     private CheckUpdateFromConfiguration checkUpdateFromConfiguration;
     private TreeConfiguration treeConfiguration;
 
@@ -38,6 +46,14 @@ public class Configuration {
         this.checkUpdateFrom = newCheckUpdateFrom;
     }
 
+    <E> void setCheckUpdateFromRelease(final List<E> checkUpdateFromRelease) {
+        this.checkUpdateFromRelease = (List<String>) checkUpdateFromRelease;
+    }
+
+    <E> void setValidateData(final List<E> validateData) {
+        this.validateData = (List<String>) validateData;
+    }
+
     void setCheckUpdateFromConfiguration(final CheckUpdateFromConfiguration checkUpdateFromConfiguration) {
         this.checkUpdateFromConfiguration = checkUpdateFromConfiguration;
     }
@@ -46,6 +62,10 @@ public class Configuration {
         this.dependConfiguration = dependConfiguration;
     }
 
+    void setAnalyzerConfiguration(final AnalyzerConfiguration analyzerConfiguration) {
+        this.analyzerConfiguration = analyzerConfiguration;
+    }
+
     void setSupportedFeatures(final Set<QName> supportedFeatures) {
         this.supportedFeatures = supportedFeatures;
     }
@@ -54,6 +74,22 @@ public class Configuration {
         this.simplify = simplify;
     }
 
+    void setSimplifyTrackingOnly(final Boolean simplifyTrackingOnly) {
+        this.simplifyTrackingOnly = simplifyTrackingOnly;
+    }
+
+    void setSimplifySample(final Integer simplifySample) {
+        this.simplifySample = simplifySample;
+    }
+
+    <E> void setSimplifyProfiles(final List<E> simplifyProfiles) {
+        this.simplifyProfiles = (List<String>) simplifyProfiles;
+    }
+
+    void setSimplifyProfileOutput(final String simplifyProfileOutput) {
+        this.simplifyProfileOutput = simplifyProfileOutput;
+    }
+
     <E> void setModuleNames(final List<E> moduleNames) {
         this.moduleNames = (List<String>) moduleNames;
     }
@@ -78,6 +114,10 @@ public class Configuration {
         this.output = output;
     }
 
+    void setOutputCompression(final OutputCompression outputCompression) {
+        this.outputCompression = outputCompression;
+    }
+
     <E> void setYangModules(final List<E> newYang) {
         this.yang = (List<String>) newYang;
     }
@@ -106,6 +146,10 @@ public class Configuration {
         return output;
     }
 
+    public OutputCompression getOutputCompression() {
+        return outputCompression;
+    }
+
     public boolean isDebug() {
         return debug;
     }
@@ -134,6 +178,22 @@ public class Configuration {
         return simplify;
     }
 
+    public boolean isSimplifyTrackingOnly() {
+        return simplifyTrackingOnly;
+    }
+
+    public int getSimplifySample() {
+        return simplifySample;
+    }
+
+    public List<String> getSimplifyProfiles() {
+        return simplifyProfiles;
+    }
+
+    public String getSimplifyProfileOutput() {
+        return simplifyProfileOutput;
+    }
+
     public List<String> getParseAll() {
         return parseAll;
     }
@@ -142,6 +202,10 @@ public class Configuration {
         return dependConfiguration;
     }
 
+    public AnalyzerConfiguration getAnalyzerConfiguration() {
+        return analyzerConfiguration;
+    }
+
     public TreeConfiguration getTreeConfiguration() {
         return treeConfiguration;
     }
@@ -150,6 +214,14 @@ public class Configuration {
         return checkUpdateFrom;
     }
 
+    public List<String> getCheckUpdateFromRelease() {
+        return checkUpdateFromRelease;
+    }
+
+    public List<String> getValidateData() {
+        return validateData;
+    }
+
     public CheckUpdateFromConfiguration getCheckUpdateFromConfiguration() {
         return checkUpdateFromConfiguration;
     }
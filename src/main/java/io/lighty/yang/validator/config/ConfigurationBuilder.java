@@ -22,8 +22,14 @@ public class ConfigurationBuilder {
     public ConfigurationBuilder setTreeConfiguration(final int treeDepth, final int lineLength,
             final boolean help, final boolean modulePrefix,
             final boolean treePrefixMainModule) {
+        return setTreeConfiguration(treeDepth, lineLength, help, modulePrefix, treePrefixMainModule, List.of());
+    }
+
+    public ConfigurationBuilder setTreeConfiguration(final int treeDepth, final int lineLength,
+            final boolean help, final boolean modulePrefix,
+            final boolean treePrefixMainModule, final List<String> nodePaths) {
         final TreeConfiguration treeConfiguration = new TreeConfiguration(treeDepth, lineLength, help,
-                modulePrefix, treePrefixMainModule);
+                modulePrefix, treePrefixMainModule, nodePaths);
         configuration.setTreeConfiguration(treeConfiguration);
         return this;
     }
@@ -32,21 +38,53 @@ public class ConfigurationBuilder {
             final boolean moduleImportsOnly,
             final boolean moduleIncludesOnly,
             final Set<String> excludedModuleNames) {
+        return setDependConfiguration(moduleDependentsOnly, moduleImportsOnly, moduleIncludesOnly,
+                excludedModuleNames, null);
+    }
+
+    public ConfigurationBuilder setDependConfiguration(final boolean moduleDependentsOnly,
+            final boolean moduleImportsOnly,
+            final boolean moduleIncludesOnly,
+            final Set<String> excludedModuleNames,
+            final String graphFormat) {
         final DependConfiguration dependConfiguration = new DependConfiguration(moduleDependentsOnly,
-                moduleImportsOnly, moduleIncludesOnly, excludedModuleNames);
+                moduleImportsOnly, moduleIncludesOnly, excludedModuleNames, graphFormat);
         configuration.setDependConfiguration(dependConfiguration);
         return this;
     }
 
+    public ConfigurationBuilder setAnalyzerConfiguration(final boolean perModule,
+            final Set<String> includedKeywords,
+            final Set<String> excludedKeywords) {
+        configuration.setAnalyzerConfiguration(new AnalyzerConfiguration(perModule, includedKeywords,
+                excludedKeywords));
+        return this;
+    }
+
     public ConfigurationBuilder setUpdateFrom(final String checkUpdateFrom) {
         configuration.setUpdateFrom(checkUpdateFrom);
         return this;
     }
 
+    public ConfigurationBuilder setCheckUpdateFromRelease(final String oldReleaseDir, final String newReleaseDir) {
+        configuration.setCheckUpdateFromRelease(List.of(oldReleaseDir, newReleaseDir));
+        return this;
+    }
+
+    public ConfigurationBuilder setValidateData(final List<String> validateData) {
+        configuration.setValidateData(validateData);
+        return this;
+    }
+
     public ConfigurationBuilder setCheckUpdateFromConfiguration(final int rfcVersion,
             final List<String> checkUpdateFromPath) {
+        return setCheckUpdateFromConfiguration(rfcVersion, checkUpdateFromPath, false);
+    }
+
+    public ConfigurationBuilder setCheckUpdateFromConfiguration(final int rfcVersion,
+            final List<String> checkUpdateFromPath, final boolean failFast) {
         final CheckUpdateFromConfiguration checkUpdateFromConfiguration =
-                new CheckUpdateFromConfiguration(rfcVersion, checkUpdateFromPath);
+                new CheckUpdateFromConfiguration(rfcVersion, checkUpdateFromPath, failFast);
         configuration.setCheckUpdateFromConfiguration(checkUpdateFromConfiguration);
         return this;
     }
@@ -66,6 +104,11 @@ public class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setOutputCompression(final OutputCompression outputCompression) {
+        configuration.setOutputCompression(outputCompression);
+        return this;
+    }
+
     public ConfigurationBuilder setDebug(final boolean debug) {
         configuration.setDebug(debug);
         return this;
@@ -101,6 +144,26 @@ public class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setSimplifyTrackingOnly(final boolean simplifyTrackingOnly) {
+        configuration.setSimplifyTrackingOnly(simplifyTrackingOnly);
+        return this;
+    }
+
+    public ConfigurationBuilder setSimplifySample(final int simplifySample) {
+        configuration.setSimplifySample(simplifySample);
+        return this;
+    }
+
+    public ConfigurationBuilder setSimplifyProfiles(final List<String> simplifyProfiles) {
+        configuration.setSimplifyProfiles(simplifyProfiles);
+        return this;
+    }
+
+    public ConfigurationBuilder setSimplifyProfileOutput(final String simplifyProfileOutput) {
+        configuration.setSimplifyProfileOutput(simplifyProfileOutput);
+        return this;
+    }
+
     public ConfigurationBuilder setParseAll(final List<String> parseAll) {
         configuration.setParseAll(parseAll);
         return this;
@@ -111,6 +174,7 @@ public class ConfigurationBuilder {
         configuration.setSupportedFeatures(resolveSupportedFeatures(namespace.getList("features")));
         configuration.setModuleNames(namespace.getList("module_name"));
         configuration.setOutput(namespace.getString("output"));
+        configuration.setOutputCompression(OutputCompression.forName(namespace.getString("output_compression")));
         configuration.setDebug(namespace.getBoolean("debug"));
         configuration.setQuiet(namespace.getBoolean("quiet"));
         configuration.setPath(splitYangDirsPath(namespace.getList("path")));
@@ -118,26 +182,40 @@ public class ConfigurationBuilder {
         configuration.setRecursive(namespace.getBoolean("recursive"));
         configuration.setFormat(namespace.getString("format"));
         configuration.setSimplify(namespace.getString("simplify"));
+        configuration.setSimplifyTrackingOnly(namespace.getBoolean("simplify_tracking_only"));
+        configuration.setSimplifySample(namespace.getInt("simplify_sample"));
+        configuration.setSimplifyProfiles(namespace.getList("simplify_profile"));
+        configuration.setSimplifyProfileOutput(namespace.getString("simplify_profile_output"));
         configuration.setParseAll(namespace.getList("parse_all"));
         final boolean singleModuledependentsOnly = namespace.getBoolean("module_depends_only");
         final boolean modulesOnly = namespace.getBoolean("modules_only");
         final boolean submodulesOnly = namespace.getBoolean("submodules_only");
         final Set<String> excludedModuleNames = new HashSet<>(namespace.getList("exclude_module_name"));
+        final String dependGraph = namespace.getString("depend_graph");
         final DependConfiguration dependConfiguration = new DependConfiguration(singleModuledependentsOnly,
-                modulesOnly, submodulesOnly, excludedModuleNames);
+                modulesOnly, submodulesOnly, excludedModuleNames, dependGraph);
         final int treeDepth = namespace.getInt("tree_depth");
         final int lineLength = namespace.getInt("tree_line_length");
         final boolean treeHelp = namespace.getBoolean("tree_help");
         final boolean treeModulePrefix = namespace.getBoolean("tree_prefix_module");
         final boolean treePrefixMainModule = namespace.getBoolean("tree_prefix_main_module");
+        final List<String> nodePaths = namespace.getList("node_path");
         final TreeConfiguration treeConfiguration = new TreeConfiguration(treeDepth, lineLength, treeHelp,
-                treeModulePrefix, treePrefixMainModule);
+                treeModulePrefix, treePrefixMainModule, nodePaths);
         configuration.setTreeConfiguration(treeConfiguration);
         configuration.setDependConfiguration(dependConfiguration);
+        final AnalyzerConfiguration analyzerConfiguration = new AnalyzerConfiguration(
+                namespace.getBoolean("analyze_per_module"),
+                new HashSet<>(namespace.getList("analyze_include_keyword")),
+                new HashSet<>(namespace.getList("analyze_exclude_keyword")));
+        configuration.setAnalyzerConfiguration(analyzerConfiguration);
         configuration.setUpdateFrom(namespace.getString("check_update_from"));
+        configuration.setCheckUpdateFromRelease(namespace.getList("check_update_from_release"));
+        configuration.setValidateData(namespace.getList("validate_data"));
         final CheckUpdateFromConfiguration checkUpdateFromConfiguration = new CheckUpdateFromConfiguration(
                 namespace.getInt("rfc_version"),
-                splitYangDirsPath(namespace.getList("check_update_from_path")));
+                splitYangDirsPath(namespace.getList("check_update_from_path")),
+                namespace.getBoolean("fail_fast"));
         configuration.setCheckUpdateFromConfiguration(checkUpdateFromConfiguration);
         return this;
     }
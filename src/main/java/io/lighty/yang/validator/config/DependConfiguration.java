@@ -15,13 +15,15 @@ public class DependConfiguration {
     private final boolean moduleImportsOnly;
     private final boolean moduleDependentsOnly;
     private final Set<String> excludedModuleNames;
+    private final String graphFormat;
 
     DependConfiguration(final boolean moduleDependentsOnly, final boolean moduleImportsOnly,
-            final boolean moduleIncludesOnly, final Set<String> excludedModuleNames) {
+            final boolean moduleIncludesOnly, final Set<String> excludedModuleNames, final String graphFormat) {
         this.moduleIncludesOnly = moduleIncludesOnly;
         this.moduleDependentsOnly = moduleDependentsOnly;
         this.moduleImportsOnly = moduleImportsOnly;
         this.excludedModuleNames = excludedModuleNames;
+        this.graphFormat = graphFormat;
     }
 
     public boolean isModuleIncludesOnly() {
@@ -39,4 +41,8 @@ public class DependConfiguration {
     public Set<String> getExcludedModuleNames() {
         return excludedModuleNames;
     }
+
+    public String getGraphFormat() {
+        return graphFormat;
+    }
 }
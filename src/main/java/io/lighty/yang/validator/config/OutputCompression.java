@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied to the files written into the output directory.
+ */
+public enum OutputCompression {
+    NONE("") {
+        @Override
+        OutputStream wrap(final OutputStream out) {
+            return out;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        OutputStream wrap(final OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String fileExtension;
+
+    OutputCompression(final String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    /**
+     * Open a file for writing. Data are compressed while they are written, so no second pass over the file
+     * is needed. The file extension of this compression is appended to the provided file name.
+     *
+     * @param directory directory where the file will be created
+     * @param fileName name of the file without compression extension
+     * @return stream writing to the newly created file
+     * @throws IOException if the file could not be created
+     */
+    public OutputStream newOutputStream(final Path directory, final String fileName) throws IOException {
+        return wrap(Files.newOutputStream(directory.resolve(fileName + fileExtension)));
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static OutputCompression forName(final String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -7,6 +7,8 @@
  */
 package io.lighty.yang.validator.config;
 
+import java.util.List;
+
 public class TreeConfiguration {
 
     private final int treeDepth;
@@ -14,14 +16,20 @@ public class TreeConfiguration {
     private final boolean help;
     private final boolean modulePrefix;
     private final boolean prefixMainModule;
+    private final List<String> nodePaths;
 
     TreeConfiguration(final int treeDepth, final int lineLength, final boolean help, final boolean modulePrefix,
-            final boolean prefixMainModule) {
+            final boolean prefixMainModule, final List<String> nodePaths) {
         this.treeDepth = treeDepth;
         this.lineLength = lineLength;
         this.help = help;
         this.modulePrefix = modulePrefix;
         this.prefixMainModule = prefixMainModule;
+        this.nodePaths = nodePaths;
+    }
+
+    public List<String> getNodePaths() {
+        return nodePaths;
     }
 
     public boolean isPrefixMainModule() {
@@ -9,13 +9,18 @@ package io.lighty.yang.validator.formats;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.lighty.yang.validator.GroupArguments;
+import io.lighty.yang.validator.config.AnalyzerConfiguration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import net.sourceforge.argparse4j.impl.choice.CollectionArgumentChoice;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.ModuleLike;
 import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
@@ -28,28 +33,73 @@ public class Analyzer extends FormatPlugin {
     private static final Logger LOG = LoggerFactory.getLogger(Analyzer.class);
     private static final String HELP_NAME = "analyze";
     private static final String HELP_DESCRIPTION = "return count of each keyword";
-    private final Map<String, Integer> counter = new HashMap<>();
+    private static final String MODULE = "module: ";
+    private static final String TOTAL = "total:";
+
+    private final Map<DeclaredStatement<?>, Map<String, Integer>> moduleCounters = new HashMap<>();
 
     @Override
     void emitFormat(final Module module) {
-        final Set<DeclaredStatement<?>> statements = getRecursivelyDeclaredStatements(modelContext.getModules());
-        for (final DeclaredStatement<?> declaredStatement : statements) {
-            analyzeSubstatement(declaredStatement);
+        if (moduleCounters.isEmpty()) {
+            analyzeModules();
+        }
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    protected void close(final Collection<Module> modules) {
+        final AnalyzerConfiguration analyzerConfiguration = configuration.getAnalyzerConfiguration();
+        if (analyzerConfiguration != null && analyzerConfiguration.isPerModule()) {
+            for (final Module module : modules) {
+                // a submodule included by several submodules of the module is counted once
+                final Set<DeclaredStatement<?>> statements = new HashSet<>();
+                collectDeclaredStatements(List.of(module), statements);
+                final Map<String, Integer> counter = new HashMap<>();
+                for (final DeclaredStatement<?> statement : statements) {
+                    moduleCounters.getOrDefault(statement, Map.of())
+                            .forEach((key, value) -> counter.merge(key, value, Integer::sum));
+                }
+                LOG.info("{}", MODULE + DependencyGraph.nodeId(module));
+                printOut(counter, analyzerConfiguration);
+            }
+            LOG.info("{}", TOTAL);
+        }
+        final Map<String, Integer> total = new HashMap<>();
+        for (final Map<String, Integer> counter : moduleCounters.values()) {
+            counter.forEach((key, value) -> total.merge(key, value, Integer::sum));
+        }
+        printOut(total, analyzerConfiguration);
+        moduleCounters.clear();
+    }
+
+    private void analyzeModules() {
+        final Set<DeclaredStatement<?>> statements = new HashSet<>();
+        collectDeclaredStatements(modelContext.getModules(), statements);
+        final List<DeclaredStatement<?>> statementList = new ArrayList<>(statements);
+        // each module is counted by a single task into its own counter, no counter is shared between threads
+        final List<Map<String, Integer>> counters = statementList.parallelStream()
+                .map(statement -> {
+                    final Map<String, Integer> counter = new HashMap<>();
+                    analyzeSubstatement(statement, counter);
+                    return counter;
+                })
+                .toList();
+        for (int i = 0; i < statementList.size(); i++) {
+            moduleCounters.put(statementList.get(i), counters.get(i));
         }
-        printOut();
     }
 
-    private Set<DeclaredStatement<?>> getRecursivelyDeclaredStatements(final Collection<? extends ModuleLike> modules) {
-        final Set<DeclaredStatement<?>> declaredStatements = new HashSet<>();
+    private static void collectDeclaredStatements(final Collection<? extends ModuleLike> modules,
+            final Set<DeclaredStatement<?>> result) {
         for (final ModuleLike module : modules) {
-            declaredStatements.add(((EffectiveStatement<?, ?>) module).getDeclared());
+            result.add(((EffectiveStatement<?, ?>) module).getDeclared());
 
             final Collection<? extends ModuleLike> submodules = module.getSubmodules();
             if (submodulesAreNotEmpty(submodules)) {
-                declaredStatements.addAll(getRecursivelyDeclaredStatements(submodules));
+                collectDeclaredStatements(submodules, result);
             }
         }
-        return declaredStatements;
     }
 
     private static boolean submodulesAreNotEmpty(final Collection<? extends ModuleLike> submodules) {
@@ -58,18 +108,31 @@ public class Analyzer extends FormatPlugin {
 
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
                         justification = "Valid output from LYV is dependent on Logback output")
-    private void printOut() {
+    private static void printOut(final Map<String, Integer> counter,
+            final AnalyzerConfiguration analyzerConfiguration) {
         for (final Map.Entry<String, Integer> entry : new TreeMap<>(counter).entrySet()) {
-            LOG.info("{}: {}", entry.getKey(), entry.getValue());
+            if (isKeywordPrinted(entry.getKey(), analyzerConfiguration)) {
+                LOG.info("{}: {}", entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static boolean isKeywordPrinted(final String keyword, final AnalyzerConfiguration analyzerConfiguration) {
+        if (analyzerConfiguration == null) {
+            return true;
         }
+        final Set<String> included = analyzerConfiguration.getIncludedKeywords();
+        return (included.isEmpty() || included.contains(keyword))
+                && !analyzerConfiguration.getExcludedKeywords().contains(keyword);
     }
 
-    private void analyzeSubstatement(final DeclaredStatement<?> subStatement) {
+    private static void analyzeSubstatement(final DeclaredStatement<?> subStatement,
+            final Map<String, Integer> counter) {
         final String name = subStatement.statementDefinition().getStatementName().getLocalName();
         counter.compute(name, (key, val) -> val == null ? 1 : val + 1);
         final Collection<? extends DeclaredStatement<?>> substatements = subStatement.declaredSubstatements();
         for (final DeclaredStatement<?> nextSubstatement : substatements) {
-            analyzeSubstatement(nextSubstatement);
+            analyzeSubstatement(nextSubstatement, counter);
         }
     }
 
@@ -80,11 +143,20 @@ public class Analyzer extends FormatPlugin {
 
     @Override
     public Optional<GroupArguments> getGroupArguments() {
-        // TODO make option to iterate through multiple modules and give output only from those modules not overlaping
         // TODO make option print as html table
         // TODO make option to sort output alphabetically or by number of occurrences
-        // TODO make option to ignore some specific keywords
-        // TODO make option to search only for some specific keywords
-        return Optional.empty();
+        final GroupArguments groupArguments = new GroupArguments(HELP_NAME,
+                "Analyze format based arguments: ");
+        groupArguments.addOption("Print keyword counts of each tested module (including its submodules)"
+                        + " before the counts of all the modules.",
+                Collections.singletonList("--analyze-per-module"), true, null, null,
+                new CollectionArgumentChoice<>(Collections.emptyList()), Boolean.TYPE);
+        groupArguments.addOption("Print counts of the listed keywords only.",
+                Collections.singletonList("--analyze-include-keyword"), false, "*", Collections.emptyList(),
+                new CollectionArgumentChoice<>(Collections.emptyList()), List.class);
+        groupArguments.addOption("Do not print counts of the listed keywords.",
+                Collections.singletonList("--analyze-exclude-keyword"), false, "*", Collections.emptyList(),
+                new CollectionArgumentChoice<>(Collections.emptyList()), List.class);
+        return Optional.of(groupArguments);
     }
 }
@@ -10,8 +10,6 @@ package io.lighty.yang.validator.formats;
 import io.lighty.yang.validator.formats.utility.LyvNodeData;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -27,7 +25,7 @@ public class ConsoleLine extends Line {
     private final List<Boolean> isConnected;
 
     ConsoleLine(final List<Boolean> isConnected, final LyvNodeData lyvNodeData, final RpcInputOutput inputOutput,
-            final Map<XMLNamespace, String> namespacePrefix) {
+            final NamespacePrefixTable namespacePrefix) {
         super(lyvNodeData, inputOutput, namespacePrefix);
         this.isConnected = isConnected;
     }
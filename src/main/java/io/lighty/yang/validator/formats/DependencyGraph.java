@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.ModuleLike;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+
+/**
+ * Graph of imports and includes between all modules and submodules of {@link EffectiveModelContext}. The graph
+ * is built once per context, every import is resolved only once using index of modules by name.
+ */
+final class DependencyGraph {
+
+    private static final LoadingCache<EffectiveModelContext, DependencyGraph> CONTEXT_GRAPHS =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .build(CacheLoader.from(context -> new DependencyGraph(context)));
+    private static final int IMPORTS = 1;
+    private static final int INCLUDES = 2;
+
+    private final List<ModuleLike> nodes = new ArrayList<>();
+    private final Map<ModuleLike, Integer> indexes = new IdentityHashMap<>();
+    private final List<int[]> imports = new ArrayList<>();
+    private final List<int[]> includes = new ArrayList<>();
+    private final Map<Integer, BitSet> closures = new ConcurrentHashMap<>();
+    private final List<Integer> topologicalOrder;
+
+    private DependencyGraph(final EffectiveModelContext context) {
+        final Map<String, List<Module>> modulesByName = new HashMap<>();
+        for (final Module module : context.getModules()) {
+            modulesByName.computeIfAbsent(module.getName(), k -> new ArrayList<>()).add(module);
+            addNode(module);
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            final ModuleLike node = nodes.get(i);
+            final List<Integer> importTargets = new ArrayList<>();
+            for (final ModuleImport moduleImport : node.getImports()) {
+                final Module target = resolveImport(moduleImport, modulesByName);
+                if (target != null) {
+                    importTargets.add(indexes.get(target));
+                }
+            }
+            final List<Integer> includeTargets = new ArrayList<>();
+            for (final Submodule submodule : node.getSubmodules()) {
+                includeTargets.add(addNode(submodule));
+            }
+            imports.add(importTargets.stream().mapToInt(Integer::intValue).toArray());
+            includes.add(includeTargets.stream().mapToInt(Integer::intValue).toArray());
+        }
+        topologicalOrder = sortTopologically();
+    }
+
+    static DependencyGraph forContext(final EffectiveModelContext context) {
+        return CONTEXT_GRAPHS.getUnchecked(context);
+    }
+
+    /**
+     * Get dependencies of the module in breadth first order.
+     *
+     * @param module module or submodule which dependencies are resolved
+     * @param followImports whether imported modules are dependencies
+     * @param followIncludes whether included submodules are dependencies
+     * @param recursive whether dependencies of dependencies are resolved as well
+     * @param excludedNames names of modules, names or name@revision of submodules, that are skipped together with
+     *                      their dependencies
+     * @return dependencies of the module
+     */
+    Set<ModuleLike> getDependencies(final ModuleLike module, final boolean followImports,
+            final boolean followIncludes, final boolean recursive, final Set<String> excludedNames) {
+        final int mask = (followImports ? IMPORTS : 0) | (followIncludes ? INCLUDES : 0);
+        final int start = indexes.get(module);
+        final Set<ModuleLike> dependencies = new LinkedHashSet<>();
+        if (recursive && excludedNames.isEmpty()) {
+            final BitSet closure = closures.computeIfAbsent(start * 4 + mask,
+                    k -> resolveClosure(start, mask, true, excludedNames));
+            closure.stream().forEach(i -> dependencies.add(nodes.get(i)));
+        } else {
+            resolveClosure(start, mask, recursive, excludedNames).stream()
+                    .forEach(i -> dependencies.add(nodes.get(i)));
+        }
+        return dependencies;
+    }
+
+    /**
+     * Get modules and submodules in topological order, each node is placed after all its dependencies.
+     * Nodes that are part of cycle are placed at the end.
+     *
+     * @return all nodes of the graph
+     */
+    List<ModuleLike> getTopologicalOrder() {
+        final List<ModuleLike> order = new ArrayList<>();
+        final BitSet sorted = new BitSet(nodes.size());
+        for (final int index : topologicalOrder) {
+            order.add(nodes.get(index));
+            sorted.set(index);
+        }
+        for (int i = sorted.nextClearBit(0); i < nodes.size(); i = sorted.nextClearBit(i + 1)) {
+            order.add(nodes.get(i));
+        }
+        return order;
+    }
+
+    /**
+     * Get modules and submodules which are part of an import or include cycle.
+     *
+     * @return nodes in cycle, empty if the graph is acyclic
+     */
+    Set<ModuleLike> getCyclicNodes() {
+        final BitSet sorted = new BitSet(nodes.size());
+        for (final int index : topologicalOrder) {
+            sorted.set(index);
+        }
+        // only nodes left out by the topological sort can be part of a cycle
+        final Set<ModuleLike> cyclic = new LinkedHashSet<>();
+        for (int i = sorted.nextClearBit(0); i < nodes.size(); i = sorted.nextClearBit(i + 1)) {
+            if (resolveClosure(i, IMPORTS | INCLUDES, true, Set.of()).get(i)) {
+                cyclic.add(nodes.get(i));
+            }
+        }
+        return cyclic;
+    }
+
+    private List<Integer> sortTopologically() {
+        final int[] dependencyCount = new int[nodes.size()];
+        final List<List<Integer>> dependants = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            dependants.add(new ArrayList<>());
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            for (final int target : targets(i, IMPORTS | INCLUDES)) {
+                dependencyCount[i]++;
+                dependants.get(target).add(i);
+            }
+        }
+        final Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (dependencyCount[i] == 0) {
+                ready.add(i);
+            }
+        }
+        final List<Integer> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            final int index = ready.poll();
+            order.add(index);
+            for (final int dependant : dependants.get(index)) {
+                if (--dependencyCount[dependant] == 0) {
+                    ready.add(dependant);
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Export subgraph in DOT format.
+     *
+     * @param graphNodes nodes of the subgraph
+     * @param followImports whether import edges are exported
+     * @param followIncludes whether include edges are exported
+     * @return graph in DOT format
+     */
+    String toDot(final Collection<ModuleLike> graphNodes, final boolean followImports,
+            final boolean followIncludes) {
+        final Set<ModuleLike> selected = nodeSet(graphNodes);
+        final List<ModuleLike> ordered = orderNodes(selected);
+        final StringBuilder builder = new StringBuilder("digraph dependencies {\n");
+        for (final ModuleLike node : ordered) {
+            builder.append("  \"").append(nodeId(node)).append("\";\n");
+        }
+        for (final ModuleLike node : ordered) {
+            appendEdges(node, selected, followImports, followIncludes, (target, kind) -> builder.append("  \"")
+                    .append(nodeId(node))
+                    .append("\" -> \"")
+                    .append(nodeId(target))
+                    .append("\" [label=\"")
+                    .append(kind)
+                    .append("\"];\n"));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Export subgraph in GraphML format.
+     *
+     * @param graphNodes nodes of the subgraph
+     * @param followImports whether import edges are exported
+     * @param followIncludes whether include edges are exported
+     * @return graph in GraphML format
+     */
+    String toGraphMl(final Collection<ModuleLike> graphNodes, final boolean followImports,
+            final boolean followIncludes) {
+        final StringBuilder builder = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n")
+                .append("  <key id=\"kind\" for=\"edge\" attr.name=\"kind\" attr.type=\"string\"/>\n")
+                .append("  <graph id=\"dependencies\" edgedefault=\"directed\">\n");
+        final Set<ModuleLike> selected = nodeSet(graphNodes);
+        final List<ModuleLike> ordered = orderNodes(selected);
+        for (final ModuleLike node : ordered) {
+            builder.append("    <node id=\"").append(nodeId(node)).append("\"/>\n");
+        }
+        for (final ModuleLike node : ordered) {
+            appendEdges(node, selected, followImports, followIncludes, (target, kind) -> builder
+                    .append("    <edge source=\"")
+                    .append(nodeId(node))
+                    .append("\" target=\"")
+                    .append(nodeId(target))
+                    .append("\"><data key=\"kind\">")
+                    .append(kind)
+                    .append("</data></edge>\n"));
+        }
+        return builder.append("  </graph>\n")
+                .append("</graphml>")
+                .toString();
+    }
+
+    static String nodeId(final ModuleLike node) {
+        return node.getRevision()
+                .map(revision -> node.getName() + "@" + revision)
+                .orElse(node.getName());
+    }
+
+    private List<ModuleLike> orderNodes(final Set<ModuleLike> selected) {
+        final List<ModuleLike> ordered = new ArrayList<>();
+        for (final ModuleLike node : getTopologicalOrder()) {
+            if (selected.contains(node)) {
+                ordered.add(node);
+            }
+        }
+        return ordered;
+    }
+
+    private void appendEdges(final ModuleLike node, final Set<ModuleLike> selected,
+            final boolean followImports, final boolean followIncludes, final EdgeConsumer consumer) {
+        final int index = indexes.get(node);
+        if (followImports) {
+            for (final int target : imports.get(index)) {
+                if (selected.contains(nodes.get(target))) {
+                    consumer.accept(nodes.get(target), "import");
+                }
+            }
+        }
+        if (followIncludes) {
+            for (final int target : includes.get(index)) {
+                if (selected.contains(nodes.get(target))) {
+                    consumer.accept(nodes.get(target), "include");
+                }
+            }
+        }
+    }
+
+    private static Set<ModuleLike> nodeSet(final Collection<ModuleLike> graphNodes) {
+        final Set<ModuleLike> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        selected.addAll(graphNodes);
+        return selected;
+    }
+
+    private BitSet resolveClosure(final int start, final int mask, final boolean recursive,
+            final Set<String> excludedNames) {
+        final BitSet visited = new BitSet(nodes.size());
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            final int current = queue.poll();
+            for (final int target : targets(current, mask)) {
+                if (visited.get(target) || isExcluded(nodes.get(target), excludedNames)) {
+                    continue;
+                }
+                visited.set(target);
+                if (recursive) {
+                    queue.add(target);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private int[] targets(final int index, final int mask) {
+        if (mask == (IMPORTS | INCLUDES)) {
+            final int[] importTargets = imports.get(index);
+            final int[] includeTargets = includes.get(index);
+            final int[] all = new int[importTargets.length + includeTargets.length];
+            System.arraycopy(importTargets, 0, all, 0, importTargets.length);
+            System.arraycopy(includeTargets, 0, all, importTargets.length, includeTargets.length);
+            return all;
+        } else if (mask == IMPORTS) {
+            return imports.get(index);
+        } else if (mask == INCLUDES) {
+            return includes.get(index);
+        }
+        return new int[0];
+    }
+
+    private static boolean isExcluded(final ModuleLike node, final Set<String> excludedNames) {
+        if (excludedNames.isEmpty()) {
+            return false;
+        }
+        return excludedNames.contains(node.getName())
+                || node instanceof Submodule && excludedNames.contains(nodeId(node));
+    }
+
+    private int addNode(final ModuleLike node) {
+        final Integer existing = indexes.get(node);
+        if (existing != null) {
+            return existing;
+        }
+        final int index = nodes.size();
+        nodes.add(node);
+        indexes.put(node, index);
+        return index;
+    }
+
+    private static Module resolveImport(final ModuleImport moduleImport, final Map<String, List<Module>> modules) {
+        final Revision importRevision = moduleImport.getRevision().orElse(null);
+        for (final Module module : modules.getOrDefault(moduleImport.getModuleName().getLocalName(), List.of())) {
+            final Revision moduleRevision = module.getRevision().orElse(null);
+            if (importRevision == null || moduleRevision == null || moduleRevision.equals(importRevision)) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface EdgeConsumer {
+        void accept(ModuleLike target, String kind);
+    }
+}
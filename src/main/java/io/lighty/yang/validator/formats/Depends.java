@@ -10,16 +10,17 @@ package io.lighty.yang.validator.formats;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.lighty.yang.validator.GroupArguments;
 import io.lighty.yang.validator.config.DependConfiguration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import net.sourceforge.argparse4j.impl.choice.CollectionArgumentChoice;
-import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.model.api.Module;
-import org.opendaylight.yangtools.yang.model.api.ModuleImport;
 import org.opendaylight.yangtools.yang.model.api.ModuleLike;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,8 +37,10 @@ public class Depends extends FormatPlugin {
     private static final String NON_RECURSIVE = "(not recursively)";
     private static final String ONLY_MODULES = "(Imports only)";
     private static final String ONLY_SUBMODULES = "(Submodules only)";
+    private static final String DOT = "dot";
+    private static final String GRAPHML = "graphml";
 
-    private final Set<String> modules = new HashSet<>();
+    private final Set<ModuleLike> graphNodes = new LinkedHashSet<>();
 
     @Override
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
@@ -45,17 +48,26 @@ public class Depends extends FormatPlugin {
     public void emitFormat(final Module module) {
         if (module != null) {
             final DependConfiguration dependConfiguration = configuration.getDependConfiguration();
+            final Set<ModuleLike> dependencies = DependencyGraph.forContext(modelContext).getDependencies(module,
+                    !dependConfiguration.isModuleIncludesOnly(), !dependConfiguration.isModuleImportsOnly(),
+                    !dependConfiguration.isModuleDependentsOnly(), dependConfiguration.getExcludedModuleNames());
+            if (dependConfiguration.getGraphFormat() != null) {
+                // graph of all the tested modules is printed on close
+                graphNodes.add(module);
+                graphNodes.addAll(dependencies);
+                return;
+            }
             final StringBuilder dependantsBuilder = new StringBuilder(MODULE);
             dependantsBuilder.append(module.getName())
                     .append(AT);
             module.getRevision().ifPresent(dependantsBuilder::append);
 
             dependantsBuilder.append(DEPENDS_TEXT);
-            if (!dependConfiguration.isModuleImportsOnly()) {
-                resolveSubmodules(module, dependConfiguration);
-            }
-            if (!dependConfiguration.isModuleIncludesOnly()) {
-                resolveImports(module, dependConfiguration);
+            final Set<String> modules = new HashSet<>();
+            for (final ModuleLike dependency : dependencies) {
+                // imported modules are listed by name, included submodules with revision
+                modules.add(dependency instanceof Submodule ? DependencyGraph.nodeId(dependency)
+                        : dependency.getName());
             }
             for (final String name : modules) {
                 dependantsBuilder.append(name)
@@ -76,74 +88,27 @@ public class Depends extends FormatPlugin {
         }
     }
 
-    private void resolveImports(final ModuleLike module, final DependConfiguration dependConfiguration) {
-        for (final ModuleImport moduleImport : module.getImports()) {
-            final String moduleName = moduleImport.getModuleName().getLocalName();
-            if (dependConfiguration.getExcludedModuleNames().contains(moduleName)) {
-                continue;
-            }
-            resolveImportsInContextModules(dependConfiguration, moduleImport, moduleName);
-        }
-    }
-
-    private void resolveImportsInContextModules(final DependConfiguration dependConfiguration,
-            final ModuleImport moduleImport, final String moduleName) {
-        for (final Module contextModule : modelContext.getModules()) {
-            if (moduleName.equals(contextModule.getName()) && isRevisionsEqualsOrNull(moduleImport, contextModule)) {
-                addContextModuleToModulesAndResolveImports(dependConfiguration, contextModule);
-                break;
-            }
-        }
-    }
-
-    private void addContextModuleToModulesAndResolveImports(final DependConfiguration dependConfiguration,
-            final Module contextModule) {
-        modules.add(contextModule.getName());
-        if (!dependConfiguration.isModuleDependentsOnly()) {
-            if (!dependConfiguration.isModuleImportsOnly()) {
-                resolveSubmodules(contextModule, dependConfiguration);
-            }
-            resolveImports(contextModule, dependConfiguration);
+    @Override
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    protected void close(final Collection<Module> testedModules) {
+        final DependConfiguration dependConfiguration = configuration.getDependConfiguration();
+        if (dependConfiguration.getGraphFormat() == null || graphNodes.isEmpty()) {
+            return;
         }
-    }
-
-    private static boolean isRevisionsEqualsOrNull(final ModuleImport moduleImport, final Module contextModule) {
-        final Revision moduleImportRevision = moduleImport.getRevision().orElse(null);
-        final Revision contextModuleRevision = contextModule.getRevision().orElse(null);
-        return moduleImportRevision == null || contextModuleRevision == null
-                || contextModuleRevision.toString().equals(moduleImportRevision.toString());
-    }
-
-    private void resolveSubmodules(final ModuleLike module, final DependConfiguration dependConfiguration) {
-        final StringBuilder dependantsBuilder = new StringBuilder();
-        for (final ModuleLike subModule : module.getSubmodules()) {
-            final String moduleName = subModule.getName();
-            if (dependConfiguration.getExcludedModuleNames().contains(moduleName)) {
-                continue;
-            }
-            if (dependantsBuilder.length() > 0) {
-                dependantsBuilder.append(' ');
-            }
-            dependantsBuilder.append(moduleName);
-            final Optional<Revision> revision = subModule.getRevision();
-            if (revision.isPresent()) {
-                dependantsBuilder
-                        .append(AT)
-                        .append(revision.get());
-            }
-            final String moduleWithRevision = dependantsBuilder.toString();
-            if (dependConfiguration.getExcludedModuleNames().contains(moduleWithRevision)) {
-                continue;
-            }
-            modules.add(moduleWithRevision);
-            dependantsBuilder.setLength(0);
-            if (!dependConfiguration.isModuleDependentsOnly()) {
-                if (!dependConfiguration.isModuleIncludesOnly()) {
-                    resolveImports(subModule, dependConfiguration);
-                }
-                resolveSubmodules(subModule, dependConfiguration);
+        final DependencyGraph graph = DependencyGraph.forContext(modelContext);
+        for (final ModuleLike cyclic : graph.getCyclicNodes()) {
+            if (graphNodes.contains(cyclic)) {
+                LOG.warn("Module {} is part of an import or include cycle", DependencyGraph.nodeId(cyclic));
             }
         }
+        final boolean imports = !dependConfiguration.isModuleIncludesOnly();
+        final boolean includes = !dependConfiguration.isModuleImportsOnly();
+        final String graphText = GRAPHML.equals(dependConfiguration.getGraphFormat())
+                ? graph.toGraphMl(graphNodes, imports, includes)
+                : graph.toDot(graphNodes, imports, includes);
+        LOG.info("{}", graphText);
+        graphNodes.clear();
     }
 
     @Override
@@ -173,6 +138,10 @@ public class Depends extends FormatPlugin {
                         + " as well.",
                 Collections.singletonList("--exclude-module-name"), false, "*", Collections.emptyList(),
                 new CollectionArgumentChoice<>(Collections.emptyList()), List.class);
+        groupArguments.addOption("Print dependency graph of the modules in the given format (dot if no format"
+                        + " is given) instead of the list of dependencies.",
+                Collections.singletonList("--depend-graph"), "?", null, DOT,
+                new CollectionArgumentChoice<>(DOT, GRAPHML), String.class);
         return Optional.of(groupArguments);
     }
 }
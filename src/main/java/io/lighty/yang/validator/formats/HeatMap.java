@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.lighty.yang.validator.GroupArguments;
+import io.lighty.yang.validator.exceptions.NotFoundException;
+import io.lighty.yang.validator.simplify.SchemaTree;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prints how often the schema nodes occur in the files given by simplify option and how many bytes of text they
+ * contain. Besides counters of the node itself, each node carries totals of its subtree, so hot subtrees can be
+ * found from the top.
+ */
+public class HeatMap extends FormatPlugin {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeatMap.class);
+    private static final String HELP_NAME = "heat-map";
+    private static final String HELP_DESCRIPTION = "return usage counters of schema nodes used by simplify files"
+            + " in json format";
+    private static final String MODULE_STRING = "Module";
+
+    private final Map<QNameModule, String> moduleNames = new HashMap<>();
+
+    @Override
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    void emitFormat(final Module module) {
+        if (module == null) {
+            LOG.error("{}", EMPTY_MODULE_EXCEPTION);
+        }
+    }
+
+    @Override
+    protected void close(final Collection<Module> modules) {
+        if (schemaTree == null) {
+            return;
+        }
+        final List<NodeUsage> usages = new ArrayList<>();
+        for (final SchemaTree child : schemaTree.getChildren()) {
+            // augmenting nodes are also placed under their targets, so they are counted from there
+            if (!child.isAugmenting()) {
+                usages.add(collectUsage(child, null));
+            }
+        }
+        emitHeatMap(usages);
+        moduleNames.clear();
+    }
+
+    /**
+     * Print usage of the top-level nodes.
+     *
+     * @param usages usage of top-level nodes with their subtrees
+     */
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    void emitHeatMap(final List<NodeUsage> usages) {
+        final JSONArray nodes = new JSONArray();
+        for (final NodeUsage usage : usages) {
+            nodes.put(toJson(usage));
+        }
+        LOG.info("{}", new JSONObject().put("heat-map", nodes).toString(4));
+    }
+
+    private NodeUsage collectUsage(final SchemaTree node, final QNameModule parentModule) {
+        final QNameModule module = node.getQname().getModule();
+        final String name = module.equals(parentModule) ? node.getQname().getLocalName()
+                : getModuleName(module) + ":" + node.getQname().getLocalName();
+        final NodeUsage usage = new NodeUsage(node, name);
+        for (final SchemaTree child : node.getChildren()) {
+            final NodeUsage childUsage = collectUsage(child, module);
+            usage.subtreeOccurrences += childUsage.subtreeOccurrences;
+            usage.subtreeTextBytes += childUsage.subtreeTextBytes;
+            usage.children.add(childUsage);
+        }
+        return usage;
+    }
+
+    private String getModuleName(final QNameModule module) {
+        return moduleNames.computeIfAbsent(module, key -> modelContext.findModule(key)
+                .orElseThrow(() -> new NotFoundException(MODULE_STRING, key.toString())).getName());
+    }
+
+    private static JSONObject toJson(final NodeUsage usage) {
+        final JSONObject json = new JSONObject();
+        json.put("name", usage.name);
+        json.put("occurrences", usage.node.getOccurrences());
+        json.put("text-bytes", usage.node.getTextBytes());
+        if (usage.isListOrLeafList()) {
+            json.put("max-list-size", usage.node.getMaxListSize());
+        }
+        json.put("subtree-occurrences", usage.subtreeOccurrences);
+        json.put("subtree-text-bytes", usage.subtreeTextBytes);
+        if (!usage.children.isEmpty()) {
+            final JSONArray children = new JSONArray();
+            for (final NodeUsage child : usage.children) {
+                children.put(toJson(child));
+            }
+            json.put("children", children);
+        }
+        return json;
+    }
+
+    @Override
+    Help getHelp() {
+        return new Help(HELP_NAME, HELP_DESCRIPTION);
+    }
+
+    @Override
+    public Optional<GroupArguments> getGroupArguments() {
+        return Optional.empty();
+    }
+
+    /**
+     * Usage of a node of the SchemaTree together with totals of its subtree.
+     */
+    static final class NodeUsage {
+
+        private final SchemaTree node;
+        private final String name;
+        private final List<NodeUsage> children = new ArrayList<>();
+        private long subtreeOccurrences;
+        private long subtreeTextBytes;
+
+        NodeUsage(final SchemaTree node, final String name) {
+            this.node = node;
+            this.name = name;
+            this.subtreeOccurrences = node.getOccurrences();
+            this.subtreeTextBytes = node.getTextBytes();
+        }
+
+        SchemaTree getNode() {
+            return node;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<NodeUsage> getChildren() {
+            return children;
+        }
+
+        long getSubtreeOccurrences() {
+            return subtreeOccurrences;
+        }
+
+        long getSubtreeTextBytes() {
+            return subtreeTextBytes;
+        }
+
+        boolean isListOrLeafList() {
+            return node.getSchemaNode() instanceof ListSchemaNode
+                    || node.getSchemaNode() instanceof LeafListSchemaNode;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prints the same counters as {@link HeatMap} as annotations of a tree of the used schema nodes.
+ */
+public class HeatMapTree extends HeatMap {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeatMapTree.class);
+    private static final String HELP_NAME = "heat-map-tree";
+    private static final String HELP_DESCRIPTION = "return tree of schema nodes used by simplify files annotated"
+            + " with their usage counters";
+    private static final String BRANCH = "+--";
+    private static final String CONTINUED = "|  ";
+    private static final String LAST = "   ";
+
+    @Override
+    void emitHeatMap(final List<NodeUsage> usages) {
+        for (final NodeUsage usage : usages) {
+            printNode(usage, "");
+        }
+    }
+
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    private static void printNode(final NodeUsage usage, final String prefix) {
+        final StringBuilder line = new StringBuilder(prefix).append(BRANCH).append(usage.getName())
+                .append("  [occurrences ").append(usage.getNode().getOccurrences())
+                .append(", text-bytes ").append(usage.getNode().getTextBytes());
+        if (usage.isListOrLeafList()) {
+            line.append(", max-list-size ").append(usage.getNode().getMaxListSize());
+        }
+        if (!usage.getChildren().isEmpty()) {
+            line.append(", subtree occurrences ").append(usage.getSubtreeOccurrences())
+                    .append(", subtree text-bytes ").append(usage.getSubtreeTextBytes());
+        }
+        LOG.info("{}", line.append(']').toString());
+        final Iterator<NodeUsage> children = usage.getChildren().iterator();
+        while (children.hasNext()) {
+            final NodeUsage child = children.next();
+            printNode(child, prefix + (children.hasNext() ? CONTINUED : LAST));
+        }
+    }
+
+    @Override
+    Help getHelp() {
+        return new Help(HELP_NAME, HELP_DESCRIPTION);
+    }
+}
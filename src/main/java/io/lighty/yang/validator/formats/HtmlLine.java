@@ -11,11 +11,9 @@ import io.lighty.yang.validator.exceptions.NotFoundException;
 import io.lighty.yang.validator.formats.utility.LyvNodeData;
 import io.lighty.yang.validator.formats.utility.SchemaHtmlEnum;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
@@ -42,7 +40,7 @@ public class HtmlLine extends Line {
 
 
     HtmlLine(final List<Integer> ids, final LyvNodeData lyvND, final RpcInputOutput inputOutput,
-            final Map<XMLNamespace, String> namespacePrefix) {
+            final NamespacePrefixTable namespacePrefix) {
         super(lyvND, inputOutput, namespacePrefix);
         this.ids = ids;
         final SchemaNode node = lyvND.getNode();
@@ -52,7 +50,7 @@ public class HtmlLine extends Line {
     }
 
     HtmlLine(final List<Integer> ids, final LyvNodeData lyvNodeData, final RpcInputOutput inputOutput,
-            final Map<XMLNamespace, String> namespacePrefix, final AugmentationSchemaNode augment) {
+            final NamespacePrefixTable namespacePrefix, final AugmentationSchemaNode augment) {
         super(lyvNodeData, inputOutput, namespacePrefix);
         this.ids = ids;
         final Iterable<QName> pathFromRoot;
@@ -88,13 +86,15 @@ public class HtmlLine extends Line {
     }
 
     private static String createPath(final Iterable<QName> pathFromRoot,
-            final Map<XMLNamespace, String> namespacePrefix, final EffectiveModelContext context) {
+            final NamespacePrefixTable namespacePrefix, final EffectiveModelContext context) {
         final StringBuilder pathBuilder = new StringBuilder();
         for (final QName path : pathFromRoot) {
-            final String prefix = namespacePrefix.getOrDefault(path.getNamespace(),
-                    context.findModule(path.getModule())
-                            .orElseThrow(() -> new NotFoundException("Module", path.getModule().toString()))
-                            .getPrefix());
+            String prefix = namespacePrefix.getPrefix(path.getNamespace());
+            if (prefix == null) {
+                prefix = context.findModule(path.getModule())
+                        .orElseThrow(() -> new NotFoundException("Module", path.getModule().toString()))
+                        .getPrefix();
+            }
 
             pathBuilder.append('/')
                     .append(prefix)
@@ -19,14 +19,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
@@ -50,14 +47,14 @@ public class JsTree extends FormatPlugin {
     private static final String HELP_DESCRIPTION = "Prints out html, javascript tree of the modules";
     private static final String INPUT = "input";
 
-    private Map<XMLNamespace, String> namespacePrefix = new HashMap<>();
+    private NamespacePrefixTable namespacePrefix;
 
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
                         justification = "Valid output from LYV is dependent on Logback output")
     @Override
     public void emitFormat(final Module module) {
         if (module != null) {
-            namespacePrefix = new HashMap<>();
+            namespacePrefix = NamespacePrefixTable.forContext(modelContext).forModule(module, false, false);
             final SingletonListInitializer singletonListInitializer = new SingletonListInitializer(1);
 
             // Nodes
@@ -155,11 +152,6 @@ public class JsTree extends FormatPlugin {
         final List<Line> lines = new ArrayList<>();
         final String headerText = prepareModule(module);
         LOG.info("{}", headerText);
-        for (final Module m : modelContext.getModules()) {
-            if (!m.getPrefix().equals(module.getPrefix())) {
-                namespacePrefix.put(m.getNamespace(), m.getPrefix());
-            }
-        }
 
         final LyvStack stack = new LyvStack();
         for (final DataSchemaNode node : module.getChildNodes()) {
@@ -437,6 +429,9 @@ public class JsTree extends FormatPlugin {
         LOG.info("{}", loadJS(modules));
         LOG.info("</body>");
         LOG.info("</html>");
+        if (modelContext != null) {
+            TypeResolutionCache.forContext(modelContext).logStatistics();
+        }
     }
 
     private static class SingletonListInitializer {
@@ -10,7 +10,9 @@ package io.lighty.yang.validator.formats;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.lighty.yang.validator.GroupArguments;
 import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.config.TreeConfiguration;
 import io.lighty.yang.validator.exceptions.NotFoundException;
+import io.lighty.yang.validator.formats.SchemaTreePathResolver.Selection;
 import io.lighty.yang.validator.formats.utility.LyvStack;
 import io.lighty.yang.validator.simplify.SchemaTree;
 import java.util.ArrayList;
@@ -87,12 +89,25 @@ public class JsonTree extends FormatPlugin {
     private static final String SLASH = "/";
     private static final String COLON = ":";
 
+    private final List<Selection> selections = new ArrayList<>();
     private JSONArray parsedModels;
+    private boolean selectNodes;
 
     @Override
     void init(final EffectiveModelContext context, final SchemaTree schemaTree, final Configuration config) {
         super.init(context, schemaTree, config);
         this.parsedModels = new JSONArray();
+        selections.clear();
+        final TreeConfiguration treeConfiguration = config.getTreeConfiguration();
+        final List<String> nodePaths = treeConfiguration == null ? List.of() : treeConfiguration.getNodePaths();
+        selectNodes = !nodePaths.isEmpty();
+        if (selectNodes && schemaTree != null) {
+            final SchemaTreePathResolver resolver = new SchemaTreePathResolver(context, schemaTree);
+            for (final String nodePath : nodePaths) {
+                resolver.resolve(nodePath).ifPresentOrElse(selections::add,
+                    () -> LOG.warn("Node path {} not found in schema tree", nodePath));
+            }
+        }
     }
 
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
@@ -103,6 +118,12 @@ public class JsonTree extends FormatPlugin {
             final LyvStack stack = new LyvStack();
             final JSONObject moduleMetadata = resolveModuleMetadata(module);
             final JSONObject jsonTree = new JSONObject();
+            if (selectNodes) {
+                appendSelectedNodesToJsonTree(module, jsonTree, stack);
+                jsonTree.put(MODULE, moduleMetadata);
+                parsedModels.put(jsonTree);
+                return;
+            }
 
             appendChildNodesToJsonTree(module, jsonTree, stack);
             stack.clear();
@@ -149,6 +170,9 @@ public class JsonTree extends FormatPlugin {
     public void close(final Collection<Module> modules) {
         LOG.info("{}", new JSONObject().put("parsed-models", parsedModels).toString(4));
         parsedModels.clear();
+        if (modelContext != null) {
+            TypeResolutionCache.forContext(modelContext).logStatistics();
+        }
     }
 
     private void appendNotificationsToAugmentationJson(final Module module, final JSONObject augmentationJson,
@@ -166,18 +190,27 @@ public class JsonTree extends FormatPlugin {
     private void appendActionsToAugmentationJson(final AugmentationSchemaNode augmentation,
             final JSONObject augmentationJson, final LyvStack stack) {
         for (final ActionDefinition child : augmentation.getActions()) {
-            stack.enter(child);
-            final JSONObject jsonModuleChildAction = new JSONObject();
-            jsonModuleChildAction.put(NAME, child.getQName().getLocalName());
-            jsonModuleChildAction.put(DESCRIPTION, child.getDescription().orElse(EMPTY));
-            jsonModuleChildAction.put(STATUS, child.getStatus().name());
-            jsonModuleChildAction.put(TYPE_INFO, new JSONObject());
-            jsonModuleChildAction.put(CLASS, ACTION);
-            jsonModuleChildAction.put(PATH, resolvePath(stack));
-            jsonModuleChildAction.append(CHILDREN, resolveChildMetadata(child.getInput(), stack));
-            jsonModuleChildAction.append(CHILDREN, resolveChildMetadata(child.getOutput(), stack, Boolean.FALSE));
-            augmentationJson.append(CHILDREN, jsonModuleChildAction);
+            augmentationJson.append(CHILDREN, resolveActionMetadata(child, stack, null));
+        }
+    }
+
+    private void appendSelectedNodesToJsonTree(final Module module, final JSONObject jsonTree,
+            final LyvStack stack) {
+        for (final Selection selection : selections) {
+            final SchemaTree st = selection.tree();
+            if (!st.getQname().getModule().equals(module.getQNameModule())) {
+                continue;
+            }
+            final Boolean isConfig = selection.inputOutput() == RpcInputOutput.OUTPUT ? Boolean.FALSE : null;
+            // position the stack at the parent of the selected node
+            stack.enter(st.getAbsolutePath());
             stack.exit();
+            if (st.getActionNode() != null) {
+                jsonTree.append(CHILDREN, resolveActionMetadata(st.getActionNode(), stack, isConfig));
+            } else {
+                jsonTree.append(CHILDREN, resolveChildMetadata(st.getSchemaNode(), stack, isConfig));
+            }
+            stack.clear();
         }
     }
 
@@ -300,18 +333,7 @@ public class JsonTree extends FormatPlugin {
         jsonModuleChild.put(PATH, resolvePath(stack));
         if (node instanceof ActionNodeContainer) {
             for (final ActionDefinition child : ((ActionNodeContainer) node).getActions()) {
-                stack.enter(child);
-                final JSONObject jsonModuleChildAction = new JSONObject();
-                jsonModuleChildAction.put(NAME, child.getQName().getLocalName());
-                jsonModuleChildAction.put(DESCRIPTION, child.getDescription().orElse(EMPTY));
-                jsonModuleChildAction.put(STATUS, child.getStatus().name());
-                jsonModuleChildAction.put(TYPE_INFO, new JSONObject());
-                jsonModuleChildAction.put(PATH, resolvePath(stack));
-                jsonModuleChildAction.put(CLASS, ACTION);
-                jsonModuleChildAction.append(CHILDREN, resolveChildMetadata(child.getInput(), stack, isConfig));
-                jsonModuleChildAction.append(CHILDREN, resolveChildMetadata(child.getOutput(), stack, Boolean.FALSE));
-                jsonModuleChild.append(CHILDREN, jsonModuleChildAction);
-                stack.exit();
+                jsonModuleChild.append(CHILDREN, resolveActionMetadata(child, stack, isConfig));
             }
         }
         if (node instanceof DataNodeContainer) {
@@ -323,14 +345,31 @@ public class JsonTree extends FormatPlugin {
                 jsonModuleChild.append(CHILDREN, resolveChildMetadata(caseNode, stack, isConfig));
             }
         } else if (node instanceof TypedDataSchemaNode) {
-            jsonModuleChild.put(TYPE_INFO, resolveType(((TypedDataSchemaNode) node).getType()));
+            jsonModuleChild.put(TYPE_INFO, TypeResolutionCache.forContext(modelContext)
+                    .getJsonType(((TypedDataSchemaNode) node).getType(), this::resolveType));
             jsonModuleChild.put(CHILDREN, Collections.emptyList());
         }
         stack.exit();
         return jsonModuleChild;
     }
 
-    private JSONObject resolveType(final TypeDefinition<? extends TypeDefinition<?>> nodeType) {
+    private JSONObject resolveActionMetadata(final ActionDefinition action, final LyvStack stack,
+            final @Nullable Boolean isConfig) {
+        stack.enter(action);
+        final JSONObject jsonAction = new JSONObject();
+        jsonAction.put(NAME, action.getQName().getLocalName());
+        jsonAction.put(DESCRIPTION, action.getDescription().orElse(EMPTY));
+        jsonAction.put(STATUS, action.getStatus().name());
+        jsonAction.put(TYPE_INFO, new JSONObject());
+        jsonAction.put(CLASS, ACTION);
+        jsonAction.put(PATH, resolvePath(stack));
+        jsonAction.append(CHILDREN, resolveChildMetadata(action.getInput(), stack, isConfig));
+        jsonAction.append(CHILDREN, resolveChildMetadata(action.getOutput(), stack, Boolean.FALSE));
+        stack.exit();
+        return jsonAction;
+    }
+
+    private JSONObject resolveType(final TypeDefinition<?> nodeType) {
         final JSONObject jsonLeafType = new JSONObject();
         final QName typeqName = nodeType.getQName();
         final int equals = typeqName.getNamespace().compareTo(XMLNamespace.of(BASETYPENAMESPACE));
@@ -7,12 +7,11 @@
  */
 package io.lighty.yang.validator.formats;
 
+import io.lighty.yang.validator.formats.TypeResolutionCache.LineType;
 import io.lighty.yang.validator.formats.utility.LyvNodeData;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
@@ -29,15 +28,10 @@ import org.opendaylight.yangtools.yang.model.api.stmt.AnyxmlEffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.IfFeatureAwareDeclaredStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.IfFeatureStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
-import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
-import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
-import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 import org.opendaylight.yangtools.yang.model.spi.meta.AbstractDeclaredEffectiveStatement;
 
 abstract class Line {
 
-    private static final String BOOLEAN = "boolean";
-    private static final String IDENTITYREF = "identityref";
     private static final String ANYXML = "<anyxml>";
     private static final String ANYDATA = "<anydata>";
 
@@ -48,7 +42,7 @@ abstract class Line {
     final boolean isListOrLeafList;
     final boolean isChoice;
     final boolean isCase;
-    private final Map<XMLNamespace, String> namespacePrefix;
+    private final NamespacePrefixTable namespacePrefix;
     Status status;
     String nodeName;
     String flag;
@@ -56,7 +50,7 @@ abstract class Line {
     String typeName;
 
     Line(final LyvNodeData lyvNodeData, final RpcInputOutput inputOutput,
-            final Map<XMLNamespace, String> namespacePrefix) {
+            final NamespacePrefixTable namespacePrefix) {
         final SchemaNode node = lyvNodeData.getNode();
         status = node.getStatus();
         isMandatory = lyvNodeData.isNodeMandatory();
@@ -67,7 +61,7 @@ abstract class Line {
         this.inputOutput = inputOutput;
         this.namespacePrefix = namespacePrefix;
         resolveFlag(node, lyvNodeData.getAbsolutePath(), lyvNodeData.getContext());
-        resolvePathAndType(node);
+        resolvePathAndType(node, lyvNodeData.getContext());
         resolveKeys(node);
         resolveIfFeatures(node);
     }
@@ -106,10 +100,10 @@ abstract class Line {
         }
     }
 
-    private void resolvePathAndType(final SchemaNode node) {
+    private void resolvePathAndType(final SchemaNode node, final EffectiveModelContext context) {
         if (node instanceof TypedDataSchemaNode) {
             final TypeDefinition<? extends TypeDefinition<?>> type = ((TypedDataSchemaNode) node).getType();
-            resolvePathAndTypeForDataSchemaNode(type);
+            resolvePathAndTypeForDataSchemaNode(type, context);
         } else if (node instanceof AnydataEffectiveStatement) {
             typeName = ANYDATA;
             path = null;
@@ -122,42 +116,19 @@ abstract class Line {
         }
     }
 
-    private void resolvePathAndTypeForDataSchemaNode(TypeDefinition<? extends TypeDefinition<?>> type) {
-        if (type instanceof IdentityrefTypeDefinition) {
-            typeName = IDENTITYREF;
-        } else if (type instanceof BooleanTypeDefinition) {
-            typeName = BOOLEAN;
-        } else if (type.getBaseType() == null) {
-            typeName = type.getQName().getLocalName();
-        } else {
-            if (nodeName.equals(type.getQName().getLocalName())) {
-                type = type.getBaseType();
-            }
-            final String prefix = namespacePrefix.get(type.getQName().getNamespace());
-            if (prefix == null || isBaseType(type)) {
-                typeName = type.getQName().getLocalName();
-            } else {
-                typeName = prefix + ":" + type.getQName().getLocalName();
-            }
+    private void resolvePathAndTypeForDataSchemaNode(TypeDefinition<? extends TypeDefinition<?>> type,
+            final EffectiveModelContext context) {
+        if (type.getBaseType() != null && nodeName.equals(type.getQName().getLocalName())) {
+            type = type.getBaseType();
         }
-        if (type instanceof LeafrefTypeDefinition) {
-            path = ((LeafrefTypeDefinition) type).getPathStatement().getOriginalString();
+        final LineType lineType = TypeResolutionCache.forContext(context).getLineType(type);
+        final String prefix = lineType.prefixNamespace() == null ? null
+                : namespacePrefix.getPrefix(lineType.prefixNamespace());
+        if (prefix == null) {
+            typeName = lineType.name();
         } else {
-            path = null;
-        }
-    }
-
-    private static boolean isBaseType(final TypeDefinition<? extends TypeDefinition<?>> type) {
-        TypeDefinition<?> baseType = type.getBaseType();
-        if (baseType == null) {
-            return true;
-        }
-        while (baseType != null) {
-            if (!baseType.getQName().getLocalName().equals(type.getQName().getLocalName())) {
-                return false;
-            }
-            baseType = baseType.getBaseType();
+            typeName = prefix + ":" + lineType.name();
         }
-        return true;
+        path = lineType.leafrefPath();
     }
 }
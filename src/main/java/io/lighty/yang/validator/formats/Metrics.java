@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.lighty.yang.validator.GroupArguments;
+import io.lighty.yang.validator.exceptions.NotFoundException;
+import io.lighty.yang.validator.simplify.SchemaTree;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.InputSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.OutputSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class Metrics extends FormatPlugin {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Metrics.class);
+    private static final String HELP_NAME = "metrics";
+    private static final String HELP_DESCRIPTION = "return size and shape metrics of the schema in json format";
+    private static final String MODULE_STRING = "Module";
+    private static final String UNKNOWN = "unknown";
+
+    private final Map<TypeDefinition<?>, String> builtInTypes = new IdentityHashMap<>();
+
+    @Override
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    void emitFormat(final Module module) {
+        if (module == null) {
+            LOG.error("{}", EMPTY_MODULE_EXCEPTION);
+        }
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
+                        justification = "Valid output from LYV is dependent on Logback output")
+    protected void close(final Collection<Module> modules) {
+        if (schemaTree == null) {
+            return;
+        }
+        final MetricsCounter total = new MetricsCounter();
+        final Map<QNameModule, MetricsCounter> moduleCounters = new HashMap<>();
+        for (final SchemaTree child : schemaTree.getChildren()) {
+            // augmenting nodes are also placed under their targets, so they are counted from there
+            if (!child.isAugmenting()) {
+                countNode(child, 1, child.getQname().getModule(), total, moduleCounters);
+            }
+        }
+
+        final Map<String, JSONObject> sortedModules = new TreeMap<>();
+        for (final Map.Entry<QNameModule, MetricsCounter> entry : moduleCounters.entrySet()) {
+            final Module module = modelContext.findModule(entry.getKey())
+                    .orElseThrow(() -> new NotFoundException(MODULE_STRING, entry.getKey().toString()));
+            final String moduleId = DependencyGraph.nodeId(module);
+            final JSONObject jsonModule = entry.getValue().toJson();
+            jsonModule.put("name", module.getName());
+            module.getRevision().ifPresent(revision -> jsonModule.put("revision", revision.toString()));
+            sortedModules.put(moduleId, jsonModule);
+        }
+        final JSONObject metrics = new JSONObject();
+        metrics.put("modules", new JSONArray(sortedModules.values()));
+        metrics.put("total", total.toJson());
+        LOG.info("{}", new JSONObject().put("metrics", metrics).toString(4));
+        builtInTypes.clear();
+    }
+
+    private void countNode(final SchemaTree node, final int depth, final QNameModule topModule,
+            final MetricsCounter total, final Map<QNameModule, MetricsCounter> moduleCounters) {
+        final QNameModule module = node.getQname().getModule();
+        final boolean augmenting = !module.equals(topModule);
+        final String kind = resolveKind(node);
+        final String leafType = node.getSchemaNode() instanceof TypedDataSchemaNode
+                ? resolveBuiltInType(((TypedDataSchemaNode) node.getSchemaNode()).getType()) : null;
+        final MetricsCounter moduleCounter = moduleCounters.computeIfAbsent(module, k -> new MetricsCounter());
+        total.addNode(node, kind, depth, augmenting, leafType);
+        moduleCounter.addNode(node, kind, depth, augmenting, leafType);
+        for (final SchemaTree child : node.getChildren()) {
+            countNode(child, depth + 1, topModule, total, moduleCounters);
+        }
+    }
+
+    private String resolveBuiltInType(final TypeDefinition<?> type) {
+        return builtInTypes.computeIfAbsent(type, key -> {
+            TypeDefinition<?> baseType = key;
+            while (baseType.getBaseType() != null) {
+                baseType = baseType.getBaseType();
+            }
+            return baseType.getQName().getLocalName();
+        });
+    }
+
+    private static String resolveKind(final SchemaTree node) {
+        if (node.getActionNode() != null) {
+            return "action";
+        }
+        final DataSchemaNode schemaNode = node.getSchemaNode();
+        if (schemaNode instanceof InputSchemaNode) {
+            return "input";
+        } else if (schemaNode instanceof OutputSchemaNode) {
+            return "output";
+        } else if (schemaNode instanceof ListSchemaNode) {
+            return "list";
+        } else if (schemaNode instanceof ContainerSchemaNode) {
+            return "container";
+        } else if (schemaNode instanceof LeafListSchemaNode) {
+            return "leaf-list";
+        } else if (schemaNode instanceof LeafSchemaNode) {
+            return "leaf";
+        } else if (schemaNode instanceof ChoiceSchemaNode) {
+            return "choice";
+        } else if (schemaNode instanceof CaseSchemaNode) {
+            return "case";
+        } else if (schemaNode instanceof AnyxmlSchemaNode) {
+            return "anyxml";
+        } else if (schemaNode instanceof AnydataSchemaNode) {
+            return "anydata";
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    Help getHelp() {
+        return new Help(HELP_NAME, HELP_DESCRIPTION);
+    }
+
+    @Override
+    public Optional<GroupArguments> getGroupArguments() {
+        return Optional.empty();
+    }
+
+    private static final class MetricsCounter {
+
+        private final Map<String, Integer> kinds = new TreeMap<>();
+        private final Map<String, Integer> leafTypes = new TreeMap<>();
+        private int nodes;
+        private long depthSum;
+        private int maxDepth;
+        private int lists;
+        private int keyedLists;
+        private long listChildren;
+        private int maxFanOut;
+        private int augmentingNodes;
+
+        void addNode(final SchemaTree node, final String kind, final int depth, final boolean augmenting,
+                final String leafType) {
+            nodes++;
+            depthSum += depth;
+            maxDepth = Math.max(maxDepth, depth);
+            kinds.merge(kind, 1, Integer::sum);
+            if (node.getSchemaNode() instanceof ListSchemaNode) {
+                final int fanOut = node.getChildren().size();
+                lists++;
+                listChildren += fanOut;
+                maxFanOut = Math.max(maxFanOut, fanOut);
+                if (!((ListSchemaNode) node.getSchemaNode()).getKeyDefinition().isEmpty()) {
+                    keyedLists++;
+                }
+            }
+            if (leafType != null) {
+                leafTypes.merge(leafType, 1, Integer::sum);
+            }
+            if (augmenting) {
+                augmentingNodes++;
+            }
+        }
+
+        JSONObject toJson() {
+            final JSONObject json = new JSONObject();
+            json.put("node-count", nodes);
+            json.put("nodes", new JSONObject(kinds));
+            json.put("max-depth", maxDepth);
+            json.put("average-depth", nodes == 0 ? 0.0 : (double) depthSum / nodes);
+            final JSONObject jsonLists = new JSONObject();
+            jsonLists.put("count", lists);
+            jsonLists.put("keyed", keyedLists);
+            jsonLists.put("max-fan-out", maxFanOut);
+            jsonLists.put("average-fan-out", lists == 0 ? 0.0 : (double) listChildren / lists);
+            json.put("lists", jsonLists);
+            json.put("leaf-types", new JSONObject(leafTypes));
+            json.put("augmenting-nodes", augmentingNodes);
+            json.put("augmentation-density", nodes == 0 ? 0.0 : (double) augmentingNodes / nodes);
+            return json;
+        }
+    }
+}
@@ -8,10 +8,10 @@
 package io.lighty.yang.validator.formats;
 
 import io.lighty.yang.validator.GroupArguments;
+import io.lighty.yang.validator.config.OutputCompression;
 import io.lighty.yang.validator.exceptions.NotFoundException;
 import io.lighty.yang.validator.formats.yang.printer.ModulePrinter;
 import io.lighty.yang.validator.simplify.SchemaTree;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -91,13 +91,15 @@ public class MultiModulePrinter extends FormatPlugin {
                         this.usedImports.computeIfAbsent(module.getQNameModule(), k -> new HashSet<>()));
                 modulePrinter.printYang();
             } else {
-                try (OutputStream os = new FileOutputStream(this.output.resolve(name).toFile())) {
+                final OutputCompression compression = this.configuration.getOutputCompression();
+                try (OutputStream os = compression.newOutputStream(this.output, name)) {
                     modulePrinter = new ModulePrinter(entry.getValue(), this.modelContext, entry.getKey(), os,
                             this.usedImportedTypeDefs.computeIfAbsent(module.getQNameModule(), k -> new HashSet<>()),
                             this.usedImports.computeIfAbsent(module.getQNameModule(), k -> new HashSet<>()));
                     modulePrinter.printYang();
                 } catch (final IOException e) {
-                    LOG.error("Can not create file {}", this.output.resolve(name).toFile().getAbsolutePath(), e);
+                    LOG.error("Can not create file {}",
+                            this.output.resolve(name + compression.getFileExtension()).toFile().getAbsolutePath(), e);
                 }
             }
         }
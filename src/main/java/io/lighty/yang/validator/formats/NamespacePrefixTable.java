@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+/**
+ * Immutable table of prefixes used to print namespaces of nodes. Modules of the context are indexed once per
+ * {@link EffectiveModelContext}, view for each printed module shares the same index and can be used concurrently.
+ */
+final class NamespacePrefixTable {
+
+    private static final LoadingCache<EffectiveModelContext, NamespacePrefixTable> CONTEXT_TABLES =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .build(CacheLoader.from(context -> new NamespacePrefixTable(context)));
+
+    private final Map<XMLNamespace, Module> modules;
+    private final @Nullable String excludedPrefix;
+    private final boolean useModuleName;
+
+    private NamespacePrefixTable(final EffectiveModelContext context) {
+        final Map<XMLNamespace, Module> byNamespace = new HashMap<>();
+        for (final Module module : context.getModules()) {
+            byNamespace.put(module.getNamespace(), module);
+        }
+        this.modules = ImmutableMap.copyOf(byNamespace);
+        this.excludedPrefix = null;
+        this.useModuleName = false;
+    }
+
+    private NamespacePrefixTable(final Map<XMLNamespace, Module> modules, final @Nullable String excludedPrefix,
+            final boolean useModuleName) {
+        this.modules = modules;
+        this.excludedPrefix = excludedPrefix;
+        this.useModuleName = useModuleName;
+    }
+
+    static NamespacePrefixTable forContext(final EffectiveModelContext context) {
+        return CONTEXT_TABLES.getUnchecked(context);
+    }
+
+    /**
+     * Create view used while printing nodes of the module.
+     *
+     * @param module printed module
+     * @param prefixMainModule whether nodes of modules with the same prefix as printed module should be prefixed too
+     * @param useModuleName whether module names should be used instead of prefixes
+     * @return prefix table for the module
+     */
+    NamespacePrefixTable forModule(final Module module, final boolean prefixMainModule,
+            final boolean useModuleName) {
+        return new NamespacePrefixTable(modules, prefixMainModule ? null : module.getPrefix(), useModuleName);
+    }
+
+    /**
+     * Get prefix of namespace.
+     *
+     * @param namespace namespace of the node
+     * @return prefix or module name of the namespace or null if namespace should not be prefixed
+     */
+    @Nullable String getPrefix(final XMLNamespace namespace) {
+        final Module module = modules.get(namespace);
+        if (module == null || module.getPrefix().equals(excludedPrefix)) {
+            return null;
+        }
+        return useModuleName ? module.getName() : module.getPrefix();
+    }
+}
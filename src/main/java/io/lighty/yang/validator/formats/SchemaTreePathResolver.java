@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import io.lighty.yang.validator.simplify.SchemaTree;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+/**
+ * Resolves node paths in the form {@code /prefix:a/prefix:b} against the {@link SchemaTree}. Each segment may be
+ * qualified either by module prefix or by module name, an unqualified segment inherits the module of the previous
+ * one. Choice and case nodes may be omitted from the path.
+ */
+final class SchemaTreePathResolver {
+
+    private static final String SLASH = "/";
+    private static final char COLON = ':';
+    private static final String INPUT = "input";
+    private static final String OUTPUT = "output";
+
+    private final SchemaTree root;
+    private final Map<String, QNameModule> modules = new HashMap<>();
+
+    SchemaTreePathResolver(final EffectiveModelContext context, final SchemaTree root) {
+        this.root = root;
+        for (final Module module : context.getModules()) {
+            modules.putIfAbsent(module.getPrefix(), module.getQNameModule());
+        }
+        // module names take precedence over prefixes, which are not unique within the context
+        for (final Module module : context.getModules()) {
+            modules.put(module.getName(), module.getQNameModule());
+        }
+    }
+
+    Optional<Selection> resolve(final String nodePath) {
+        SchemaTree current = root;
+        QNameModule module = null;
+        RpcInputOutput inputOutput = RpcInputOutput.OTHER;
+        for (final String segment : nodePath.split(SLASH)) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            final int colon = segment.indexOf(COLON);
+            if (colon != -1) {
+                module = modules.get(segment.substring(0, colon));
+            }
+            if (module == null) {
+                return Optional.empty();
+            }
+            final QName qname;
+            try {
+                qname = QName.create(module, segment.substring(colon + 1));
+            } catch (final IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            final boolean isAction = current.getActionNode() != null;
+            final Optional<SchemaTree> child = findChild(current, qname);
+            if (child.isEmpty()) {
+                return Optional.empty();
+            }
+            if (isAction) {
+                inputOutput = INPUT.equals(qname.getLocalName()) ? RpcInputOutput.INPUT : RpcInputOutput.OUTPUT;
+            }
+            current = child.orElseThrow();
+        }
+        if (current == root) {
+            return Optional.empty();
+        }
+        return Optional.of(new Selection(current, inputOutput));
+    }
+
+    private static Optional<SchemaTree> findChild(final SchemaTree parent, final QName qname) {
+        final Optional<SchemaTree> child = parent.findChild(qname);
+        if (child.isPresent()) {
+            return child;
+        }
+        for (final SchemaTree candidate : parent.getChildren()) {
+            if (candidate.getSchemaNode() instanceof ChoiceSchemaNode
+                    || candidate.getSchemaNode() instanceof CaseSchemaNode) {
+                final Optional<SchemaTree> nested = findChild(candidate, qname);
+                if (nested.isPresent()) {
+                    return nested;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolved subtree together with information whether it is located in action input or output.
+     */
+    record Selection(SchemaTree tree, RpcInputOutput inputOutput) {
+    }
+}
@@ -12,12 +12,13 @@ import static java.lang.Math.min;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.lighty.yang.validator.GroupArguments;
 import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.formats.SchemaTreePathResolver.Selection;
 import io.lighty.yang.validator.formats.utility.LyvNodeData;
 import io.lighty.yang.validator.formats.utility.LyvStack;
 import io.lighty.yang.validator.simplify.SchemaTree;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -29,7 +30,6 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import net.sourceforge.argparse4j.impl.choice.CollectionArgumentChoice;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
@@ -56,8 +56,9 @@ public class Tree extends FormatPlugin {
     private static final String COLON = ":";
     private static final String RPCS = "RPCs:";
     private static final String NOTIFICATION = "notifications:";
-    private static final Map<XMLNamespace, String> NAMESPACE_PREFIX = new HashMap<>();
 
+    private final List<Selection> selections = new ArrayList<>();
+    private NamespacePrefixTable namespacePrefix;
     private int treeDepth;
     private int lineLength;
 
@@ -67,20 +68,36 @@ public class Tree extends FormatPlugin {
         treeDepth = configuration.getTreeConfiguration().getTreeDepth();
         final int len = configuration.getTreeConfiguration().getLineLength();
         lineLength = len == 0 ? 10000 : len;
+        selections.clear();
+        final List<String> nodePaths = configuration.getTreeConfiguration().getNodePaths();
+        if (!nodePaths.isEmpty() && schemaTree != null) {
+            final SchemaTreePathResolver resolver = new SchemaTreePathResolver(context, schemaTree);
+            for (final String nodePath : nodePaths) {
+                resolver.resolve(nodePath).ifPresentOrElse(selections::add,
+                    () -> LOG.warn("Node path {} not found in schema tree", nodePath));
+            }
+        }
     }
 
     @Override
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
                         justification = "Valid output from LYV is dependent on Logback output")
     public void emitFormat(final Module module) {
-        NAMESPACE_PREFIX.clear();
         if (configuration.getTreeConfiguration().isHelp()) {
             printHelp();
         } else if (module != null) {
             final String firstLine = MODULE + module.getName();
             LOG.info("{}", firstLine.substring(0, min(firstLine.length(), lineLength)));
 
-            putContextModuleMatchedWithUsedModuleToNamespacePrefix(module);
+            namespacePrefix = NamespacePrefixTable.forContext(modelContext).forModule(module,
+                    configuration.getTreeConfiguration().isPrefixMainModule(),
+                    configuration.getTreeConfiguration().isModulePrefix());
+
+            if (!configuration.getTreeConfiguration().getNodePaths().isEmpty()) {
+                // Selected subtrees only
+                printLines(getSelectedLines(module));
+                return;
+            }
 
             final AtomicInteger rootNodes = new AtomicInteger(0);
             for (final SchemaTree st : schemaTree.getChildren()) {
@@ -123,9 +140,9 @@ public class Tree extends FormatPlugin {
         final StringBuilder pathBuilder = new StringBuilder();
         for (final QName qname : st.getKey()) {
             pathBuilder.append(SLASH);
-            if (configuration.getTreeConfiguration().isPrefixMainModule()
-                    || NAMESPACE_PREFIX.containsKey(qname.getNamespace())) {
-                pathBuilder.append(NAMESPACE_PREFIX.get(qname.getNamespace()))
+            final String prefix = namespacePrefix.getPrefix(qname.getNamespace());
+            if (prefix != null) {
+                pathBuilder.append(prefix)
                         .append(COLON);
             }
             pathBuilder.append(qname.getLocalName());
@@ -137,7 +154,7 @@ public class Tree extends FormatPlugin {
             final DataSchemaNode node = value.getSchemaNode();
             final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, node, value.getAbsolutePath());
             final ConsoleLine consoleLine = new ConsoleLine(Collections.emptyList(), lyvNodeData, RpcInputOutput.OTHER,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             resolveChildNodes(lines, new ArrayList<>(), value, --augmentationNodes > 0,
                     RpcInputOutput.OTHER, Collections.emptyList(), module);
@@ -153,7 +170,7 @@ public class Tree extends FormatPlugin {
                 final DataSchemaNode node = st.getSchemaNode();
                 final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, node, st.getAbsolutePath());
                 final ConsoleLine consoleLine = new ConsoleLine(Collections.emptyList(), lyvNodeData,
-                        RpcInputOutput.OTHER, NAMESPACE_PREFIX);
+                        RpcInputOutput.OTHER, namespacePrefix);
                 lines.add(consoleLine);
                 List<QName> keyDefinitions = Collections.emptyList();
                 if (node instanceof ListSchemaNode) {
@@ -167,17 +184,36 @@ public class Tree extends FormatPlugin {
         return lines;
     }
 
-    private void putContextModuleMatchedWithUsedModuleToNamespacePrefix(final Module module) {
-        for (final Module m : modelContext.getModules()) {
-            if (!m.getPrefix().equals(module.getPrefix())
-                    || configuration.getTreeConfiguration().isPrefixMainModule()) {
-                if (configuration.getTreeConfiguration().isModulePrefix()) {
-                    NAMESPACE_PREFIX.put(m.getNamespace(), m.getName());
-                } else {
-                    NAMESPACE_PREFIX.put(m.getNamespace(), m.getPrefix());
-                }
+    private List<Line> getSelectedLines(final Module module) {
+        final List<Selection> moduleSelections = new ArrayList<>();
+        for (final Selection selection : selections) {
+            if (selection.tree().getQname().getModule().equals(module.getQNameModule())) {
+                moduleSelections.add(selection);
             }
         }
+        final List<Line> lines = new ArrayList<>();
+        final Iterator<Selection> iterator = moduleSelections.iterator();
+        while (iterator.hasNext()) {
+            final Selection selection = iterator.next();
+            final SchemaTree st = selection.tree();
+            if (st.getActionNode() != null) {
+                resolveActions(lines, new ArrayList<>(), iterator.hasNext(), Collections.emptyIterator(), st, module);
+                continue;
+            }
+            final DataSchemaNode node = st.getSchemaNode();
+            final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, node, st.getAbsolutePath());
+            final ConsoleLine consoleLine = new ConsoleLine(Collections.emptyList(), lyvNodeData,
+                    selection.inputOutput(), namespacePrefix);
+            lines.add(consoleLine);
+            List<QName> keyDefinitions = Collections.emptyList();
+            if (node instanceof ListSchemaNode) {
+                keyDefinitions = ((ListSchemaNode) node).getKeyDefinition();
+            }
+            resolveChildNodes(lines, new ArrayList<>(), st, iterator.hasNext(), selection.inputOutput(),
+                    keyDefinitions, module);
+            treeDepth++;
+        }
+        return lines;
     }
 
     private List<Line> getNotificationLines(final Iterator<? extends NotificationDefinition> notifications) {
@@ -188,7 +224,7 @@ public class Tree extends FormatPlugin {
             stack.enter(node);
             final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, node, stack);
             final ConsoleLine consoleLine = new ConsoleLine(Collections.emptyList(), lyvNodeData, RpcInputOutput.OTHER,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             resolveChildNodes(lines, new ArrayList<>(), node, false, RpcInputOutput.OTHER, Collections.emptyList(),
                 stack);
@@ -206,7 +242,7 @@ public class Tree extends FormatPlugin {
             stack.enter(node);
             LyvNodeData lyvNodeData = new LyvNodeData(modelContext, node, stack);
             ConsoleLine consoleLine = new ConsoleLine(Collections.emptyList(), lyvNodeData, RpcInputOutput.OTHER,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             final boolean inputExists = !node.getInput().getChildNodes().isEmpty();
             final boolean outputExists = !node.getOutput().getChildNodes().isEmpty();
@@ -214,7 +250,7 @@ public class Tree extends FormatPlugin {
                 stack.enter(node.getInput());
                 lyvNodeData = new LyvNodeData(modelContext, node.getInput(), stack);
                 consoleLine = new ConsoleLine(Collections.singletonList(rpcs.hasNext()), lyvNodeData,
-                    RpcInputOutput.INPUT, NAMESPACE_PREFIX);
+                    RpcInputOutput.INPUT, namespacePrefix);
                 lines.add(consoleLine);
                 final List<Boolean> isNextRpc = new ArrayList<>(Collections.singleton(rpcs.hasNext()));
                 resolveChildNodes(lines, isNextRpc, node.getInput(), outputExists, RpcInputOutput.INPUT,
@@ -226,7 +262,7 @@ public class Tree extends FormatPlugin {
                 stack.enter(node.getOutput());
                 lyvNodeData = new LyvNodeData(modelContext, node.getOutput(), stack);
                 consoleLine = new ConsoleLine(Collections.singletonList(rpcs.hasNext()), lyvNodeData,
-                    RpcInputOutput.OUTPUT, NAMESPACE_PREFIX);
+                    RpcInputOutput.OUTPUT, namespacePrefix);
                 lines.add(consoleLine);
                 final List<Boolean> isNextRpc = new ArrayList<>(Collections.singleton(rpcs.hasNext()));
                 resolveChildNodes(lines, isNextRpc, node.getOutput(), false, RpcInputOutput.OUTPUT,
@@ -319,7 +355,7 @@ public class Tree extends FormatPlugin {
                 stack.enter(action);
                 LyvNodeData lyvNodeData = new LyvNodeData(modelContext, action, stack);
                 ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData,
-                        RpcInputOutput.OTHER, NAMESPACE_PREFIX);
+                        RpcInputOutput.OTHER, namespacePrefix);
                 lines.add(consoleLine);
                 final boolean inputExists = !action.getInput().getChildNodes().isEmpty();
                 final boolean outputExists = !action.getOutput().getChildNodes().isEmpty();
@@ -328,7 +364,7 @@ public class Tree extends FormatPlugin {
                     stack.enter(action.getInput());
                     lyvNodeData = new LyvNodeData(modelContext, action.getInput(), stack);
                     consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, RpcInputOutput.INPUT,
-                        NAMESPACE_PREFIX);
+                        namespacePrefix);
                     lines.add(consoleLine);
                     resolveChildNodes(lines, isConnected, action.getInput(), outputExists, RpcInputOutput.INPUT,
                             Collections.emptyList(), stack);
@@ -341,7 +377,7 @@ public class Tree extends FormatPlugin {
                     stack.enter(action.getOutput());
                     lyvNodeData = new LyvNodeData(modelContext, action.getOutput(), stack);
                     consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, RpcInputOutput.OUTPUT,
-                        NAMESPACE_PREFIX);
+                        namespacePrefix);
                     lines.add(consoleLine);
                     resolveChildNodes(lines, isConnected, action.getOutput(), false, RpcInputOutput.OUTPUT,
                         Collections.emptyList(), stack);
@@ -367,7 +403,7 @@ public class Tree extends FormatPlugin {
         final ActionDefinition action = actionSchemaTree.getActionNode();
         LyvNodeData lyvNodeData = new LyvNodeData(modelContext, action, actionSchemaTree.getAbsolutePath(), null);
         ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, RpcInputOutput.OTHER,
-            NAMESPACE_PREFIX);
+            namespacePrefix);
         lines.add(consoleLine);
         boolean inputExists = false;
         boolean outputExists = false;
@@ -386,7 +422,7 @@ public class Tree extends FormatPlugin {
             isConnected.add(actions.hasNext() || hasNext);
             lyvNodeData = new LyvNodeData(modelContext, action.getInput(), inValue.getAbsolutePath());
             consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, RpcInputOutput.INPUT,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             resolveChildNodes(lines, isConnected, inValue, outputExists, RpcInputOutput.INPUT,
                     Collections.emptyList(), module);
@@ -397,7 +433,7 @@ public class Tree extends FormatPlugin {
             isConnected.add(actions.hasNext() || hasNext);
             lyvNodeData = new LyvNodeData(modelContext, action.getOutput(), outValue.getAbsolutePath());
             consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, RpcInputOutput.OUTPUT,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             resolveChildNodes(lines, isConnected, outValue, false, RpcInputOutput.OUTPUT,
                     Collections.emptyList(), module);
@@ -415,7 +451,7 @@ public class Tree extends FormatPlugin {
                 final DataSchemaNode child = nextST.getSchemaNode();
                 final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, child, nextST.getAbsolutePath());
                 final ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, inputOutput,
-                    NAMESPACE_PREFIX);
+                    namespacePrefix);
                 lines.add(consoleLine);
                 resolveChildNodes(lines, isConnected, nextST, caseNodes.hasNext()
                         || actionExists, inputOutput, Collections.emptyList(), module);
@@ -432,7 +468,7 @@ public class Tree extends FormatPlugin {
             stack.enter(child);
             final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, child, stack);
             final ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, inputOutput,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             resolveChildNodes(lines, isConnected, child, iterator.hasNext() || actionExists, inputOutput,
                     Collections.emptyList(), stack);
@@ -452,7 +488,7 @@ public class Tree extends FormatPlugin {
                 final DataSchemaNode child = nextST.getSchemaNode();
                 final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, child, nextST.getAbsolutePath(), keys);
                 final ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, inputOutput,
-                    NAMESPACE_PREFIX);
+                    namespacePrefix);
                 lines.add(consoleLine);
                 List<QName> keyDefinitions = Collections.emptyList();
                 if (child instanceof ListSchemaNode) {
@@ -474,7 +510,7 @@ public class Tree extends FormatPlugin {
             stack.enter(child);
             final LyvNodeData lyvNodeData = new LyvNodeData(modelContext, child, stack, keys);
             final ConsoleLine consoleLine = new ConsoleLine(new ArrayList<>(isConnected), lyvNodeData, inputOutput,
-                NAMESPACE_PREFIX);
+                namespacePrefix);
             lines.add(consoleLine);
             List<QName> keyDefinitions = Collections.emptyList();
             if (child instanceof ListSchemaNode) {
@@ -534,6 +570,13 @@ public class Tree extends FormatPlugin {
                         + "     within curly brackets and a question mark \"{...}?\"\n");
     }
 
+    @Override
+    protected void close(final Collection<Module> modules) {
+        if (modelContext != null) {
+            TypeResolutionCache.forContext(modelContext).logStatistics();
+        }
+    }
+
     @Override
     public Help getHelp() {
         return new Help(HELP_NAME, HELP_DESCRIPTION);
@@ -558,6 +601,11 @@ public class Tree extends FormatPlugin {
         groupArguments.addOption("Use prefix with used module.",
                 Collections.singletonList("--tree-prefix-main-module"), true, null, null,
                 new CollectionArgumentChoice<>(Collections.emptyList()), Boolean.TYPE);
+        groupArguments.addOption("Print only the subtrees selected by schema node paths in the form"
+                        + " /prefix:a/prefix:b (applies to tree and json-tree formats). A subtree added"
+                        + " by an augmentation is printed only with the augmenting module.",
+                Collections.singletonList("--node-path"), false, "*", Collections.emptyList(),
+                new CollectionArgumentChoice<>(Collections.emptyList()), List.class);
         return Optional.of(groupArguments);
     }
 }
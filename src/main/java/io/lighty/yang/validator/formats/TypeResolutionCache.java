@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.Nullable;
+import org.json.JSONObject;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolved renderings of type definitions, kept per {@link EffectiveModelContext}. Type definitions are compared
+ * by identity, so a typedef used by thousands of leaves is resolved only once.
+ */
+final class TypeResolutionCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TypeResolutionCache.class);
+    private static final String BOOLEAN = "boolean";
+    private static final String IDENTITYREF = "identityref";
+    private static final LoadingCache<EffectiveModelContext, TypeResolutionCache> CONTEXT_CACHES =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .build(CacheLoader.from(context -> new TypeResolutionCache()));
+
+    private final LoadingCache<TypeDefinition<?>, LineType> lineTypes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .recordStats()
+            .build(CacheLoader.from(TypeResolutionCache::resolveLineType));
+    private final Cache<TypeDefinition<?>, JSONObject> jsonTypes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .recordStats()
+            .build();
+
+    private TypeResolutionCache() {
+        // use forContext
+    }
+
+    static TypeResolutionCache forContext(final EffectiveModelContext context) {
+        return CONTEXT_CACHES.getUnchecked(context);
+    }
+
+    /**
+     * Get type rendering used by tree lines.
+     *
+     * @param type type definition of the leaf or leaf-list
+     * @return resolved type name, namespace used to prefix the name and leafref path
+     */
+    LineType getLineType(final TypeDefinition<?> type) {
+        try {
+            return lineTypes.getUnchecked(type);
+        } catch (final UncheckedExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Get json representation of type. Returned object is shared and must not be modified.
+     *
+     * @param type type definition of the leaf or leaf-list
+     * @param resolver function creating json representation in case it is not cached yet
+     * @return json representation of the type
+     */
+    JSONObject getJsonType(final TypeDefinition<?> type, final Function<TypeDefinition<?>, JSONObject> resolver) {
+        try {
+            return jsonTypes.get(type, () -> resolver.apply(type));
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Failed to resolve type " + type.getQName(), e.getCause());
+        } catch (final UncheckedExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final UncheckedExecutionException exception) {
+        // callers see the same exception as if the type was resolved without the cache
+        return exception.getCause() instanceof RuntimeException ? (RuntimeException) exception.getCause() : exception;
+    }
+
+    void logStatistics() {
+        if (LOG.isDebugEnabled()) {
+            final CacheStats lineStats = lineTypes.stats();
+            final CacheStats jsonStats = jsonTypes.stats();
+            LOG.debug("Type resolution cache - line types: hit rate {} ({} hits, {} misses),"
+                            + " json types: hit rate {} ({} hits, {} misses)",
+                    lineStats.hitRate(), lineStats.hitCount(), lineStats.missCount(),
+                    jsonStats.hitRate(), jsonStats.hitCount(), jsonStats.missCount());
+        }
+    }
+
+    private static LineType resolveLineType(final TypeDefinition<?> type) {
+        final String name;
+        XMLNamespace prefixNamespace = null;
+        if (type instanceof IdentityrefTypeDefinition) {
+            name = IDENTITYREF;
+        } else if (type instanceof BooleanTypeDefinition) {
+            name = BOOLEAN;
+        } else {
+            name = type.getQName().getLocalName();
+            if (!isBaseType(type)) {
+                prefixNamespace = type.getQName().getNamespace();
+            }
+        }
+        final String leafrefPath = type instanceof LeafrefTypeDefinition
+                ? ((LeafrefTypeDefinition) type).getPathStatement().getOriginalString() : null;
+        return new LineType(name, prefixNamespace, leafrefPath);
+    }
+
+    private static boolean isBaseType(final TypeDefinition<?> type) {
+        TypeDefinition<?> baseType = type.getBaseType();
+        if (baseType == null) {
+            return true;
+        }
+        while (baseType != null) {
+            if (!baseType.getQName().getLocalName().equals(type.getQName().getLocalName())) {
+                return false;
+            }
+            baseType = baseType.getBaseType();
+        }
+        return true;
+    }
+
+    /**
+     * Type rendering used by tree lines.
+     *
+     * @param name name of the type without prefix
+     * @param prefixNamespace namespace whose prefix should be put in front of the name, if any
+     * @param leafrefPath path of the leafref type, if any
+     */
+    record LineType(String name, @Nullable XMLNamespace prefixNamespace, @Nullable String leafrefPath) {
+    }
+}
@@ -8,17 +8,30 @@
 package io.lighty.yang.validator.simplify;
 
 import io.lighty.yang.validator.formats.utility.LyvStack;
+import io.lighty.yang.validator.simplify.stream.SchemaChildIndex;
+import io.lighty.yang.validator.simplify.stream.TrackingJsonParserStream;
 import io.lighty.yang.validator.simplify.stream.TrackingXmlParserStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import org.json.JSONException;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.data.util.codec.TypeAwareCodec;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
@@ -30,35 +43,162 @@ import org.opendaylight.yangtools.yang.model.api.Module;
 
 public class SchemaSelector {
 
-    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+    // XMLInputFactory is not guaranteed to be thread safe, xml files may be parsed by several selectors at once
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XMLInputFactory::newInstance);
     private final EffectiveModelContext effectiveModelContext;
     private final SchemaTree tree;
+    private final boolean trackingOnly;
+    private final int sampleLimit;
     @SuppressWarnings("UnstableApiUsage")
     private final XmlCodecFactory codecs;
+    // codecs of leaf and leaf-list nodes created by the codec factory, resolved once per node
+    private final Map<DataSchemaNode, TypeAwareCodec<?, NamespaceContext, ?>> nodeCodecs;
+    private final SchemaChildIndex childIndex;
+    private long skippedListEntries;
 
-    @SuppressWarnings("UnstableApiUsage")
     public SchemaSelector(final EffectiveModelContext effectiveModelContext) {
+        this(effectiveModelContext, false);
+    }
+
+    /**
+     * Create selector of schema nodes used by xml files.
+     *
+     * @param effectiveModelContext context of the xml files
+     * @param trackingOnly if true, xml files are only walked to find used schema nodes, their data are not built
+     *                     and leaf values are not validated
+     */
+    public SchemaSelector(final EffectiveModelContext effectiveModelContext, final boolean trackingOnly) {
+        this(effectiveModelContext, trackingOnly, 0);
+    }
+
+    /**
+     * Create selector of schema nodes used by xml files, which reads only a sample of entries of each list.
+     *
+     * @param effectiveModelContext context of the xml files
+     * @param trackingOnly if true, xml files are only walked to find used schema nodes, their data are not built
+     *                     and leaf values are not validated
+     * @param sampleLimit number of read entries of each list instance, further sibling entries are skipped.
+     *                    0 to read all the entries
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    public SchemaSelector(final EffectiveModelContext effectiveModelContext, final boolean trackingOnly,
+            final int sampleLimit) {
         this.effectiveModelContext = effectiveModelContext;
+        this.trackingOnly = trackingOnly;
+        this.sampleLimit = sampleLimit;
         codecs = XmlCodecFactory.create(effectiveModelContext);
+        nodeCodecs = new ConcurrentHashMap<>();
+        childIndex = new SchemaChildIndex();
+        tree = new SchemaTree(SchemaTree.ROOT, null,
+                false, false, null);
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private SchemaSelector(final SchemaSelector parent) {
+        this.effectiveModelContext = parent.effectiveModelContext;
+        this.trackingOnly = parent.trackingOnly;
+        this.sampleLimit = parent.sampleLimit;
+        // codec factory created by XmlCodecFactory.create uses thread safe codec cache and can be shared
+        this.codecs = parent.codecs;
+        this.nodeCodecs = parent.nodeCodecs;
+        this.childIndex = parent.childIndex;
         tree = new SchemaTree(SchemaTree.ROOT, null,
                 false, false, null);
     }
 
+    /**
+     * Create selector with its own empty SchemaTree, sharing context and codecs with this selector. Worker can be
+     * used in another thread and its tree merged back by {@link #merge(SchemaSelector)}.
+     *
+     * @return new worker selector
+     */
+    public SchemaSelector newWorker() {
+        return new SchemaSelector(this);
+    }
+
+    /**
+     * Merge SchemaTree filled in by the worker into the tree of this selector.
+     *
+     * @param worker selector created by {@link #newWorker()}, which must not be used afterwards
+     */
+    public void merge(final SchemaSelector worker) {
+        tree.merge(worker.tree);
+        skippedListEntries += worker.skippedListEntries;
+    }
+
     public void addXml(final InputStream xml) throws XMLStreamException, IOException, URISyntaxException {
         fillUsedSchema(xml, tree);
     }
 
+    /**
+     * Add schema nodes used by RFC 7951 JSON instance data. JSON is always only tracked, its data are not built.
+     *
+     * @param json UTF-8 encoded JSON source
+     * @throws IOException if the source can not be read
+     */
+    public void addJson(final InputStream json) throws IOException {
+        try (Reader reader = new InputStreamReader(json, StandardCharsets.UTF_8)) {
+            final var jsonParser = new TrackingJsonParserStream(effectiveModelContext, true, tree, sampleLimit);
+            skippedListEntries += jsonParser.parse(reader).getSkippedEntries();
+        } catch (final JSONException e) {
+            throw new IOException("Failed to parse json", e);
+        }
+    }
+
+    /**
+     * Add schema nodes stored in the usage profile written by {@link #writeProfile(OutputStream)}. Profile can be
+     * added together with xml and json files, nodes used by any of them are kept.
+     *
+     * @param profile UTF-8 encoded usage profile
+     * @throws IOException if the profile can not be read or it was created for other revisions of the modules
+     */
+    public void addProfile(final InputStream profile) throws IOException {
+        try (Reader reader = new InputStreamReader(profile, StandardCharsets.UTF_8)) {
+            SchemaUsageProfile.read(reader, effectiveModelContext, tree);
+        }
+    }
+
+    /**
+     * Write schema nodes used by all the added sources as usage profile, which can be added instead of the sources
+     * by {@link #addProfile(InputStream)}.
+     *
+     * @param profile stream the UTF-8 encoded usage profile is written to
+     * @throws IOException if the profile can not be written
+     */
+    public void writeProfile(final OutputStream profile) throws IOException {
+        final Writer writer = new OutputStreamWriter(profile, StandardCharsets.UTF_8);
+        SchemaUsageProfile.write(tree, effectiveModelContext, writer);
+    }
+
     public SchemaTree getSchemaTree() {
         return tree;
     }
 
+    /**
+     * Get number of list entries skipped because of the sample limit.
+     *
+     * @return number of skipped list entries of all added files
+     */
+    public long getSkippedListEntries() {
+        return skippedListEntries;
+    }
+
     private void fillUsedSchema(final InputStream input, final SchemaTree st)
             throws XMLStreamException, IOException, URISyntaxException {
-        final XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        final XMLStreamReader reader = FACTORY.get().createXMLStreamReader(input);
+        if (trackingOnly) {
+            try (var xmlParser = new TrackingXmlParserStream(codecs, effectiveModelContext, true, st, sampleLimit,
+                    nodeCodecs, childIndex)) {
+                skippedListEntries += xmlParser.parse(reader).getSkippedEntries();
+            }
+            return;
+        }
         final NormalizationResultHolder result = new NormalizationResultHolder();
         final NormalizedNodeStreamWriter streamWriter = ImmutableNormalizedNodeStreamWriter.from(result);
-        try (var xmlParser = new TrackingXmlParserStream(streamWriter, codecs, effectiveModelContext, true, st)) {
-            xmlParser.parse(reader);
+        // parsed data are dropped, so opaque anyxml and anydata values do not need to be read
+        try (var xmlParser = new TrackingXmlParserStream(streamWriter, codecs, effectiveModelContext, true, st,
+                sampleLimit, true, nodeCodecs, childIndex)) {
+            skippedListEntries += xmlParser.parse(reader).getSkippedEntries();
         }
     }
 
@@ -67,44 +207,38 @@ public class SchemaSelector {
 
         for (final Module module : effectiveModelContext.getModules()) {
             for (final DataSchemaNode node : module.getChildNodes()) {
-                resolveChildNodes(tree, node, true, false, stack);
-                stack.clear();
+                resolveChildNodes(tree.addChild(node, true, false), node);
             }
 
             for (final AugmentationSchemaNode aug : module.getAugmentations()) {
-                stack.enter(aug.getTargetPath());
                 for (final DataSchemaNode node : aug.getChildNodes()) {
-                    resolveChildNodes(tree, node, true, true, stack);
+                    // augmenting nodes at root keep path of the augmentation target,
+                    // their children are placed under them
+                    stack.enter(aug.getTargetPath());
+                    stack.enter(node);
+                    resolveChildNodes(tree.addChild(node, true, true, stack), node);
                 }
-                stack.clear();
             }
         }
     }
 
-    private void resolveChildNodes(final SchemaTree schemaTree, final DataSchemaNode node, final boolean rootNode,
-            final boolean augNode, final LyvStack stack) {
-        stack.enter(node);
-        SchemaTree childSchemaTree = schemaTree.addChild(node, rootNode, augNode, stack);
+    private static void resolveChildNodes(final SchemaTree schemaTree, final DataSchemaNode node) {
         if (node instanceof DataNodeContainer) {
             for (final DataSchemaNode schemaNode : ((DataNodeContainer) node).getChildNodes()) {
-                resolveChildNodes(childSchemaTree, schemaNode, false, false, stack);
+                resolveChildNodes(schemaTree.addChild(schemaNode, false, false), schemaNode);
             }
         } else if (node instanceof ChoiceSchemaNode) {
             for (final DataSchemaNode singleCase : ((ChoiceSchemaNode) node).getCases()) {
-                resolveChildNodes(childSchemaTree, singleCase, false, false, stack);
+                resolveChildNodes(schemaTree.addChild(singleCase, false, false), singleCase);
             }
         }
 
         if (node instanceof ActionNodeContainer) {
             for (final ActionDefinition action : ((ActionNodeContainer) node).getActions()) {
-                stack.enter(action);
-                childSchemaTree = childSchemaTree.addChild(action, false, false, stack);
-                resolveChildNodes(childSchemaTree, action.getInput(), false, false, stack);
-                resolveChildNodes(childSchemaTree, action.getOutput(), false, false, stack);
-                stack.exit();
+                final SchemaTree actionSchemaTree = schemaTree.addChild(action, false, false);
+                resolveChildNodes(actionSchemaTree.addChild(action.getInput(), false, false), action.getInput());
+                resolveChildNodes(actionSchemaTree.addChild(action.getOutput(), false, false), action.getOutput());
             }
         }
-        stack.exit();
     }
 }
-
@@ -8,41 +8,99 @@
 package io.lighty.yang.validator.simplify;
 
 import io.lighty.yang.validator.formats.utility.LyvStack;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 
+/**
+ * Node of the tree of used schema nodes. Nodes placed under their parent in the schema store only their QName and
+ * a link to the parent, their {@link Absolute} path is created on first use. Only nodes placed elsewhere, like
+ * augmentations added at the root, keep their path.
+ */
 public class SchemaTree implements Comparable<SchemaTree> {
 
     public static final Absolute ROOT = Absolute.of(QName.create("root", "root"));
 
-    private final Absolute absolutePath;
+    private final SchemaTree parent;
+    private final QName qname;
+    private final Absolute detachedPath;
     private final DataSchemaNode schemaNode;
     private final boolean isRootNode;
     private final boolean isAugmenting;
     private final ActionDefinition actionNode;
-    private final Set<SchemaTree> children = new LinkedHashSet<>();
+    private final int hash;
+    private Absolute absolutePath;
+    // usage of the node by instance data, lists and leaf-lists count each entry as occurrence
+    private long occurrences;
+    private long textBytes;
+    private int maxListSize;
+    // children placed under this node are keyed by their QName, other children by their path
+    private Map<Object, SchemaTree> children;
+    private Set<SchemaTree> childrenView;
+    private Set<SchemaTree> dataSchemaNodeChildren;
+    private Set<SchemaTree> actionDefinitionChildren;
 
     SchemaTree(final Absolute absolutePath, final DataSchemaNode schemaNode,
             final boolean isRootNode, final boolean isAugmenting,
             final ActionDefinition actionNode) {
-        this.absolutePath = absolutePath;
+        this(null, absolutePath.lastNodeIdentifier(), absolutePath, schemaNode, isRootNode, isAugmenting,
+                actionNode);
+    }
+
+    private SchemaTree(final SchemaTree parent, final QName qname, final Absolute detachedPath,
+            final DataSchemaNode schemaNode, final boolean isRootNode, final boolean isAugmenting,
+            final ActionDefinition actionNode) {
+        this.parent = parent;
+        this.qname = qname;
+        this.detachedPath = detachedPath;
         this.schemaNode = schemaNode;
         this.isRootNode = isRootNode;
         this.isAugmenting = isAugmenting;
         this.actionNode = actionNode;
+        this.absolutePath = detachedPath;
+        this.hash = detachedPath == null ? 31 * parent.hash + qname.hashCode() : pathHash(detachedPath);
+    }
+
+    /**
+     * Create root of an empty tree.
+     *
+     * @return root of the tree
+     */
+    public static SchemaTree createRoot() {
+        return new SchemaTree(ROOT, null, false, false, null);
     }
 
     public QName getQname() {
-        return absolutePath.lastNodeIdentifier();
+        return qname;
     }
 
     public Absolute getAbsolutePath() {
-        return absolutePath;
+        Absolute path = absolutePath;
+        if (path == null) {
+            path = childPath(parent, qname);
+            absolutePath = path;
+        }
+        return path;
+    }
+
+    /**
+     * Get node this node was created under.
+     *
+     * @return parent node or null for the root of the tree
+     */
+    public SchemaTree getParent() {
+        return parent;
     }
 
     public boolean isRootNode() {
@@ -61,60 +119,213 @@ public class SchemaTree implements Comparable<SchemaTree> {
         return actionNode;
     }
 
+    public long getOccurrences() {
+        return occurrences;
+    }
+
+    public long getTextBytes() {
+        return textBytes;
+    }
+
+    public int getMaxListSize() {
+        return maxListSize;
+    }
+
+    /**
+     * Count one more instance of this node, or one more entry if this node is list or leaf-list.
+     */
+    public void addOccurrence() {
+        occurrences++;
+    }
+
+    /**
+     * Count text of an instance of this node.
+     *
+     * @param bytes length of the text in UTF-8
+     */
+    public void addTextBytes(final long bytes) {
+        textBytes += bytes;
+    }
+
+    /**
+     * Record number of entries of a list or leaf-list instance.
+     *
+     * @param size number of entries
+     */
+    public void updateMaxListSize(final int size) {
+        if (size > maxListSize) {
+            maxListSize = size;
+        }
+    }
+
     public SchemaTree addChild(final SchemaTree tree) {
-        if (children.add(tree)) {
-            return tree;
-        } else {
-            return children.stream()
-                    .filter(schemaTree -> schemaTree.equals(tree))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException(
-                            String.format("Failed to add SchemaNode [%s] to SchemaTree path", absolutePath)));
+        final Object key = tree.detachedPath == null && (tree.parent == this || tree.parent.equals(this))
+                ? tree.qname : tree.getAbsolutePath();
+        return putChild(key, tree);
+    }
+
+    /**
+     * Add child placed under this node in the schema. Path of the child is not created until it is used.
+     *
+     * @param schemaNodeInput schema node of the child
+     * @param isRootNodeInput whether the child is root node of its module
+     * @param isAugmentingInput whether the child is added by augmentation of another module
+     * @return added child or already present child with the same QName
+     */
+    public SchemaTree addChild(final DataSchemaNode schemaNodeInput, final boolean isRootNodeInput,
+            final boolean isAugmentingInput) {
+        final QName childQName = schemaNodeInput.getQName();
+        final SchemaTree existing = children == null ? null : children.get(childQName);
+        if (existing != null) {
+            return existing;
         }
+        return putChild(childQName, new SchemaTree(this, childQName, null, schemaNodeInput, isRootNodeInput,
+                isAugmentingInput, null));
     }
 
     public SchemaTree addChild(final DataSchemaNode schemaNodeInput, final boolean isRootNodeInput,
             final boolean isAugmentingInput, final Absolute absolute) {
-        final SchemaTree tree = new SchemaTree(absolute, schemaNodeInput, isRootNodeInput, isAugmentingInput, null);
-        return addChild(tree);
+        return addDetachedChild(absolute, schemaNodeInput, isRootNodeInput, isAugmentingInput);
     }
 
     public SchemaTree addChild(final DataSchemaNode schemaNodeInput, final boolean isRootNodeInput,
             final boolean isAugmentingInput, final LyvStack stack) {
-        final SchemaTree tree = new SchemaTree(stack.toSchemaNodeIdentifier(), schemaNodeInput, isRootNodeInput,
-            isAugmentingInput, null);
-        return addChild(tree);
+        return addDetachedChild(stack.toSchemaNodeIdentifier(), schemaNodeInput, isRootNodeInput, isAugmentingInput);
     }
 
     SchemaTree addChild(final ActionDefinition schemaNodeInput, final boolean isRootNodeInput,
-            final boolean augmentation, final LyvStack stack) {
-        final SchemaTree tree = new SchemaTree(stack.toSchemaNodeIdentifier(), null, isRootNodeInput, augmentation,
-            schemaNodeInput);
-        return addChild(tree);
+            final boolean augmentation) {
+        final QName childQName = schemaNodeInput.getQName();
+        final SchemaTree existing = children == null ? null : children.get(childQName);
+        if (existing != null) {
+            return existing;
+        }
+        return putChild(childQName, new SchemaTree(this, childQName, null, null, isRootNodeInput, augmentation,
+                schemaNodeInput));
+    }
+
+    private SchemaTree addDetachedChild(final Absolute absolute, final DataSchemaNode schemaNodeInput,
+            final boolean isRootNodeInput, final boolean isAugmentingInput) {
+        final QName childQName = absolute.lastNodeIdentifier();
+        if (absolute.equals(childPath(this, childQName))) {
+            final SchemaTree existing = children == null ? null : children.get(childQName);
+            if (existing != null) {
+                return existing;
+            }
+            return putChild(childQName, new SchemaTree(this, childQName, null, schemaNodeInput, isRootNodeInput,
+                    isAugmentingInput, null));
+        }
+        return putChild(absolute, new SchemaTree(this, childQName, absolute, schemaNodeInput, isRootNodeInput,
+                isAugmentingInput, null));
+    }
+
+    private SchemaTree putChild(final Object key, final SchemaTree tree) {
+        if (children == null) {
+            children = new LinkedHashMap<>();
+            childrenView = new ChildrenView();
+        }
+        final SchemaTree existing = children.putIfAbsent(key, tree);
+        if (existing != null) {
+            return existing;
+        }
+        dataSchemaNodeChildren = null;
+        actionDefinitionChildren = null;
+        return tree;
+    }
+
+    /**
+     * Merge children of the other tree into this tree. Children not present in this tree are appended after
+     * existing children in the order of the other tree, so merging trees in a fixed order gives the same result
+     * as filling a single tree in that order. Usage counters of the other tree are added to counters of this tree.
+     * Children not present in this tree are rebuilt under this tree, so no node of the merged tree links to a node
+     * of the other tree.
+     *
+     * @param other tree filled in by another selector, with the same path as this tree
+     */
+    public void merge(final SchemaTree other) {
+        occurrences += other.occurrences;
+        textBytes += other.textBytes;
+        updateMaxListSize(other.maxListSize);
+        if (other.children == null) {
+            return;
+        }
+        for (final Map.Entry<Object, SchemaTree> entry : other.children.entrySet()) {
+            final SchemaTree child = entry.getValue();
+            SchemaTree existing = children == null ? null : children.get(entry.getKey());
+            if (existing == null) {
+                existing = putChild(entry.getKey(), new SchemaTree(this, child.qname, child.detachedPath,
+                        child.schemaNode, child.isRootNode, child.isAugmenting, child.actionNode));
+            }
+            existing.merge(child);
+        }
     }
 
     public Set<SchemaTree> getChildren() {
-        return children;
+        return children == null ? Collections.emptySet() : childrenView;
+    }
+
+    public Optional<SchemaTree> findChild(final QName childQName) {
+        if (children == null) {
+            return Optional.empty();
+        }
+        final SchemaTree child = children.get(childQName);
+        if (child != null) {
+            return Optional.of(child);
+        }
+        for (final SchemaTree candidate : children.values()) {
+            if (candidate.qname.equals(childQName)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
     }
 
     public Set<SchemaTree> getDataSchemaNodeChildren() {
-        final Set<SchemaTree> ret = new LinkedHashSet<>();
-        for (final SchemaTree child : children) {
-            if (child.getSchemaNode() != null) {
-                ret.add(child);
+        if (dataSchemaNodeChildren == null) {
+            final Set<SchemaTree> ret = new LinkedHashSet<>();
+            for (final SchemaTree child : getChildren()) {
+                if (child.getSchemaNode() != null) {
+                    ret.add(child);
+                }
             }
+            dataSchemaNodeChildren = Collections.unmodifiableSet(ret);
         }
-        return ret;
+        return dataSchemaNodeChildren;
     }
 
     public Set<SchemaTree> getActionDefinitionChildren() {
-        final Set<SchemaTree> ret = new LinkedHashSet<>();
-        for (final SchemaTree child : children) {
-            if (child.getActionNode() != null) {
-                ret.add(child);
+        if (actionDefinitionChildren == null) {
+            final Set<SchemaTree> ret = new LinkedHashSet<>();
+            for (final SchemaTree child : getChildren()) {
+                if (child.getActionNode() != null) {
+                    ret.add(child);
+                }
             }
+            actionDefinitionChildren = Collections.unmodifiableSet(ret);
+        }
+        return actionDefinitionChildren;
+    }
+
+    private static Absolute childPath(final SchemaTree parent, final QName childQName) {
+        // children of the root of the tree do not contain the root in their path
+        if (parent.parent == null) {
+            return Absolute.of(childQName);
+        }
+        final List<QName> nodeIdentifiers = new ArrayList<>(parent.getAbsolutePath().getNodeIdentifiers());
+        nodeIdentifiers.add(childQName);
+        return Absolute.of(nodeIdentifiers);
+    }
+
+    private static int pathHash(final Absolute path) {
+        // root of the tree hashes as empty path, so the hash of a child is the same whether it has detached path
+        if (ROOT.equals(path)) {
+            return 1;
         }
-        return ret;
+        int result = 1;
+        for (final QName nodeIdentifier : path.getNodeIdentifiers()) {
+            result = 31 * result + nodeIdentifier.hashCode();
+        }
+        return result;
     }
 
     @Override
@@ -126,17 +337,48 @@ public class SchemaTree implements Comparable<SchemaTree> {
             return false;
         }
         final SchemaTree that = (SchemaTree) obj;
-        return Objects.equals(absolutePath, that.absolutePath);
+        if (hash != that.hash) {
+            return false;
+        }
+        if (detachedPath == null && that.detachedPath == null) {
+            return qname.equals(that.qname) && parent.equals(that.parent);
+        }
+        return getAbsolutePath().equals(that.getAbsolutePath());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(absolutePath);
+        return hash;
     }
 
     @Override
     public int compareTo(final SchemaTree originalTree) {
         return getQname().compareTo(originalTree.getQname());
     }
-}
 
+    /**
+     * Read-only view of children, which looks up the children by their key.
+     */
+    private final class ChildrenView extends AbstractSet<SchemaTree> {
+
+        @Override
+        public Iterator<SchemaTree> iterator() {
+            return Collections.unmodifiableCollection(children.values()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return children.size();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            if (!(obj instanceof SchemaTree)) {
+                return false;
+            }
+            final SchemaTree tree = (SchemaTree) obj;
+            final SchemaTree child = children.get(tree.qname);
+            return child != null && child.equals(tree) || children.containsKey(tree.getAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.simplify;
+
+import io.lighty.yang.validator.simplify.stream.TrackingXmlParserStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
+import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * Usage profile stores schema nodes used by simplified instance data, so the data do not have to be parsed again.
+ * Profile is a json object with revisions of the modules whose nodes are used and with paths of the used nodes
+ * which have no used children, in the order of the SchemaTree. Node names are qualified by module name whenever
+ * the module differs from the module of the parent node. Profile can be loaded only into a context which contains
+ * the same revisions of the modules.
+ */
+final class SchemaUsageProfile {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String VERSION = "version";
+    private static final String MODULES = "modules";
+    private static final String PATHS = "paths";
+    private static final String NO_REVISION = "";
+
+    private SchemaUsageProfile() {
+        // hidden on purpose
+    }
+
+    /**
+     * Write profile of nodes used in the SchemaTree.
+     *
+     * @param tree root of the SchemaTree
+     * @param context context the tree was filled in from
+     * @param writer writer of the profile
+     * @throws IOException if the profile can not be written
+     */
+    static void write(final SchemaTree tree, final EffectiveModelContext context, final Writer writer)
+            throws IOException {
+        final Map<String, String> modules = new TreeMap<>();
+        final JSONArray paths = new JSONArray();
+        for (final SchemaTree child : tree.getChildren()) {
+            // augmenting nodes at root are also placed under their targets, so they are stored from there
+            if (!child.isAugmenting()) {
+                collectPaths(child, context, modules, paths);
+            }
+        }
+        final JSONObject profile = new JSONObject();
+        profile.put(VERSION, FORMAT_VERSION);
+        profile.put(MODULES, new JSONObject(modules));
+        profile.put(PATHS, paths);
+        try {
+            profile.write(writer);
+        } catch (final JSONException e) {
+            throw new IOException("Failed to write usage profile", e);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Add nodes stored in the profile to the SchemaTree.
+     *
+     * @param reader reader of the profile
+     * @param context context of the tree
+     * @param tree root of the SchemaTree
+     * @throws IOException if the profile can not be read or does not match the context
+     */
+    static void read(final Reader reader, final EffectiveModelContext context, final SchemaTree tree)
+            throws IOException {
+        try {
+            final JSONObject profile = new JSONObject(new JSONTokener(reader));
+            if (profile.optInt(VERSION) != FORMAT_VERSION) {
+                throw new IOException("Unsupported usage profile version " + profile.opt(VERSION));
+            }
+            final JSONObject modules = profile.getJSONObject(MODULES);
+            for (final String moduleName : modules.keySet()) {
+                final Module module = findModule(context, moduleName);
+                final String revision = module.getRevision().map(Object::toString).orElse(NO_REVISION);
+                if (!revision.equals(modules.getString(moduleName))) {
+                    throw new IOException(String.format("Usage profile was created for %s revision '%s', but"
+                            + " revision '%s' is used", moduleName, modules.getString(moduleName), revision));
+                }
+            }
+            final JSONArray paths = profile.getJSONArray(PATHS);
+            for (int i = 0; i < paths.length(); i++) {
+                addPath(paths.getString(i), context, tree);
+            }
+        } catch (final JSONException e) {
+            throw new IOException("Failed to parse usage profile", e);
+        }
+    }
+
+    private static void collectPaths(final SchemaTree tree, final EffectiveModelContext context,
+            final Map<String, String> modules, final JSONArray paths) {
+        if (!tree.getChildren().isEmpty()) {
+            for (final SchemaTree child : tree.getChildren()) {
+                collectPaths(child, context, modules, paths);
+            }
+            return;
+        }
+        final StringBuilder path = new StringBuilder();
+        QNameModule previous = null;
+        for (final QName qname : tree.getAbsolutePath().getNodeIdentifiers()) {
+            path.append('/');
+            if (!qname.getModule().equals(previous)) {
+                final Module module = context.findModule(qname.getModule()).orElseThrow(() ->
+                        new IllegalStateException("Module of node " + qname + " is not part of the context"));
+                modules.put(module.getName(), module.getRevision().map(Object::toString).orElse(NO_REVISION));
+                path.append(module.getName()).append(':');
+                previous = qname.getModule();
+            }
+            path.append(qname.getLocalName());
+        }
+        paths.put(path.toString());
+    }
+
+    private static void addPath(final String path, final EffectiveModelContext context, final SchemaTree tree)
+            throws IOException {
+        SchemaTree schemaTree = tree;
+        final SchemaInferenceStack schemaIS = SchemaInferenceStack.of(context);
+        Object parentNode = context;
+        QNameModule module = null;
+        for (final String segment : path.substring(1).split("/")) {
+            final int colon = segment.indexOf(':');
+            if (colon != -1) {
+                module = findModule(context, segment.substring(0, colon)).getQNameModule();
+            } else if (module == null) {
+                throw new IOException("Top-level node " + segment + " of path " + path + " has no module name");
+            }
+            final QName qname = QName.create(module, segment.substring(colon + 1));
+            final Optional<?> child = findChild(parentNode, qname);
+            if (child.isEmpty()) {
+                throw new IOException("Node " + qname + " of path " + path + " not found in the schema");
+            }
+            if (child.get() instanceof ActionDefinition) {
+                schemaIS.enterSchemaTree(qname);
+                schemaTree = schemaTree.addChild((ActionDefinition) child.get(), false, false);
+            } else {
+                schemaTree = TrackingXmlParserStream.getSchemaTreeWithAddedChildren(schemaTree,
+                        List.of((DataSchemaNode) child.get()), schemaIS);
+            }
+            parentNode = child.get();
+        }
+    }
+
+    private static Optional<?> findChild(final Object parentNode, final QName qname) {
+        if (parentNode instanceof ChoiceSchemaNode) {
+            return ((ChoiceSchemaNode) parentNode).findCase(qname);
+        }
+        if (parentNode instanceof ActionDefinition) {
+            final ActionDefinition action = (ActionDefinition) parentNode;
+            if (action.getInput().getQName().equals(qname)) {
+                return Optional.of(action.getInput());
+            }
+            return action.getOutput().getQName().equals(qname) ? Optional.of(action.getOutput()) : Optional.empty();
+        }
+        if (parentNode instanceof DataNodeContainer) {
+            final Optional<DataSchemaNode> child = ((DataNodeContainer) parentNode).findDataChildByName(qname);
+            if (child.isPresent()) {
+                return child;
+            }
+        }
+        if (parentNode instanceof ActionNodeContainer) {
+            return ((ActionNodeContainer) parentNode).findAction(qname);
+        }
+        return Optional.empty();
+    }
+
+    private static Module findModule(final EffectiveModelContext context, final String moduleName)
+            throws IOException {
+        final Collection<? extends Module> modules = context.findModules(moduleName);
+        if (modules.isEmpty()) {
+            throw new IOException("Module " + moduleName + " of usage profile is not part of the context");
+        }
+        return modules.iterator().next();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.simplify.stream;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+
+/**
+ * Index of schema children of data nodes by local name and namespace of their XML elements. Children of choices and
+ * cases are indexed under the nearest data node together with the choice and case nodes leading to them, in the same
+ * order in which {@code ParserStreamUtils.findSchemaNodeByNameAndNamespace} searches them. Children of a parent are
+ * indexed when the parent is first looked up.
+ *
+ * <p>Index is owned by the user of the parsers and shared by all its parsers of the same model context. It is thread
+ * safe, so it can be used by parsers running in parallel.
+ */
+public final class SchemaChildIndex {
+
+    private final Map<DataSchemaNode, Map<String, Map<String, List<DataSchemaNode>>>> parents =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Find schema path of the child element.
+     *
+     * @param parent    schema node of the parent element
+     * @param namespace namespace of the child element
+     * @param localName local name of the child element
+     * @return schema nodes from the child of {@code parent} to the node of the element, including choice and case
+     *         nodes in between, empty list if the element has no schema
+     */
+    List<DataSchemaNode> findChildPath(final DataSchemaNode parent, final String namespace, final String localName) {
+        Map<String, Map<String, List<DataSchemaNode>>> children = parents.get(parent);
+        if (children == null) {
+            children = indexChildren(parent);
+            final var previous = parents.putIfAbsent(parent, children);
+            if (previous != null) {
+                children = previous;
+            }
+        }
+        final Map<String, List<DataSchemaNode>> namespaces = children.get(localName);
+        if (namespaces == null) {
+            return List.of();
+        }
+        return namespaces.getOrDefault(namespace, List.of());
+    }
+
+    private static Map<String, Map<String, List<DataSchemaNode>>> indexChildren(final DataSchemaNode parent) {
+        final Map<String, Map<String, List<DataSchemaNode>>> children = new HashMap<>();
+        if (parent instanceof DataNodeContainer container) {
+            addChildren(children, container, List.of());
+        }
+        return children;
+    }
+
+    private static void addChildren(final Map<String, Map<String, List<DataSchemaNode>>> children,
+            final DataNodeContainer container, final List<DataSchemaNode> prefix) {
+        final List<ChoiceSchemaNode> choices = new ArrayList<>();
+        for (final DataSchemaNode child : container.getChildNodes()) {
+            if (child instanceof ChoiceSchemaNode choice) {
+                choices.add(choice);
+            } else {
+                children.computeIfAbsent(child.getQName().getLocalName(), name -> new HashMap<>())
+                        .putIfAbsent(child.getQName().getNamespace().toString(), append(prefix, child));
+            }
+        }
+        // nodes of cases are found only when no direct child matches, first matching case wins
+        for (final ChoiceSchemaNode choice : choices) {
+            for (final CaseSchemaNode caseNode : choice.getCases()) {
+                addChildren(children, caseNode, append(append(prefix, choice), caseNode));
+            }
+        }
+    }
+
+    private static List<DataSchemaNode> append(final List<DataSchemaNode> prefix, final DataSchemaNode node) {
+        return ImmutableList.<DataSchemaNode>builderWithExpectedSize(prefix.size() + 1)
+                .addAll(prefix).add(node).build();
+    }
+}
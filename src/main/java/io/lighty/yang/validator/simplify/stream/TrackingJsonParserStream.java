@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.simplify.stream;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Utf8;
+import io.lighty.yang.validator.simplify.SchemaTree;
+import java.io.Reader;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.json.JSONTokener;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * This class walks a JSON source encoded according to RFC 7951 and fills in our SchemaTree class with schema nodes
+ * used by the source. The source is read token by token, neither a JSON document nor normalized data are built and
+ * leaf values are skipped without being decoded. Top-level members may be wrapped in a {@code data} object, as
+ * returned by RESTCONF.
+ */
+public final class TrackingJsonParserStream {
+
+    private static final String DATA_WRAPPER = "data";
+    private static final String VALUE_DELIMITERS = ",]}";
+
+    private final EffectiveModelContext modelContext;
+    private final boolean strictParsing;
+    private final SchemaTree tree;
+    private final int sampleLimit;
+    private final Map<String, Optional<XMLNamespace>> moduleNamespaces = new HashMap<>();
+    private long skippedEntries;
+
+    public TrackingJsonParserStream(final EffectiveModelContext modelContext, final boolean strictParsing,
+            final SchemaTree tree) {
+        this(modelContext, strictParsing, tree, 0);
+    }
+
+    /**
+     * Create parser which skips entries of each list instance after the first {@code sampleLimit} entries.
+     *
+     * @param modelContext  model context of the JSON source
+     * @param strictParsing whether members without schema should fail the parsing
+     * @param tree          SchemaTree to be filled in
+     * @param sampleLimit   number of tracked entries of each list instance, 0 to track all the entries
+     */
+    public TrackingJsonParserStream(final EffectiveModelContext modelContext, final boolean strictParsing,
+            final SchemaTree tree, final int sampleLimit) {
+        this.modelContext = requireNonNull(modelContext);
+        this.strictParsing = strictParsing;
+        this.tree = requireNonNull(tree);
+        this.sampleLimit = sampleLimit;
+    }
+
+    /**
+     * Get number of list entries skipped because of the sample limit.
+     *
+     * @return number of skipped list entries
+     */
+    public long getSkippedEntries() {
+        return skippedEntries;
+    }
+
+    /**
+     * This method walks the JSON source and adds used schema nodes to the SchemaTree.
+     *
+     * @param reader reader of the JSON source
+     * @return instance of TrackingJsonParserStream
+     * @throws org.json.JSONException if the JSON source is not well-formed
+     */
+    public TrackingJsonParserStream parse(final Reader reader) {
+        final JSONTokener tokener = new JSONTokener(reader);
+        final SchemaInferenceStack schemaIS = SchemaInferenceStack.of(modelContext);
+        expect(tokener, '{');
+        trackObject(tokener, modelContext, null, tree, schemaIS);
+        return this;
+    }
+
+    /**
+     * Recursive method which populates the {@link SchemaTree} {@code schemaTree} with schema nodes of the members
+     * of the current JSON object. Opening brace of the object has to be already read.
+     *
+     * @param tokener         JSON tokener
+     * @param parentSchema    schema node of the object
+     * @param parentNamespace namespace inherited by unqualified member names, null for top-level object
+     * @param schemaTree      SchemaTree node of the object
+     */
+    private void trackObject(final JSONTokener tokener, final DataSchemaNode parentSchema,
+            final XMLNamespace parentNamespace, final SchemaTree schemaTree, final SchemaInferenceStack schemaIS) {
+        final Set<String> memberNames = new HashSet<>();
+        char next = tokener.nextClean();
+        if (next == '}') {
+            return;
+        }
+        while (true) {
+            if (next != '"') {
+                throw tokener.syntaxError("Expected member name");
+            }
+            final String memberName = tokener.nextString('"');
+            checkState(memberNames.add(memberName), "Duplicate member \"%s\" in JSON input %s", memberName, tokener);
+            expect(tokener, ':');
+            trackMember(tokener, memberName, parentSchema, parentNamespace, schemaTree, schemaIS);
+            next = tokener.nextClean();
+            if (next == '}') {
+                return;
+            }
+            if (next != ',') {
+                throw tokener.syntaxError("Expected ',' or '}'");
+            }
+            next = tokener.nextClean();
+        }
+    }
+
+    private void trackMember(final JSONTokener tokener, final String memberName, final DataSchemaNode parentSchema,
+            final XMLNamespace parentNamespace, final SchemaTree schemaTree, final SchemaInferenceStack schemaIS) {
+        if (memberName.startsWith("@")) {
+            // metadata annotations do not use any schema node
+            skipValue(tokener);
+            return;
+        }
+        final int colon = memberName.indexOf(':');
+        final String localName = colon == -1 ? memberName : memberName.substring(colon + 1);
+        if (colon == -1 && isDataWrapper(localName, parentNamespace, schemaTree)) {
+            // unqualified wrapper is recognised before top-level members are required to be qualified
+            trackDataWrapper(tokener, parentSchema, schemaTree, schemaIS);
+            return;
+        }
+        final XMLNamespace namespace;
+        if (colon == -1) {
+            checkState(parentNamespace != null, "Top-level member %s is not qualified by module name", memberName);
+            namespace = parentNamespace;
+        } else {
+            namespace = resolveNamespace(memberName.substring(0, colon));
+        }
+
+        final Deque<DataSchemaNode> childDataSchemaNodes = namespace == null ? null
+                : ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, localName, namespace);
+        if (childDataSchemaNodes == null || childDataSchemaNodes.isEmpty()) {
+            if (isDataWrapper(localName, parentNamespace, schemaTree)) {
+                trackDataWrapper(tokener, parentSchema, schemaTree, schemaIS);
+                return;
+            }
+            checkState(!strictParsing, "Schema for node with name %s and namespace %s does not exist in %s",
+                    localName, namespace, parentSchema.getQName());
+            skipValue(tokener);
+            return;
+        }
+
+        final SchemaTree childTree = TrackingXmlParserStream.getSchemaTreeWithAddedChildren(schemaTree,
+                childDataSchemaNodes, schemaIS);
+        final DataSchemaNode childSchema = childDataSchemaNodes.getLast();
+        if (childSchema instanceof ListSchemaNode) {
+            trackListEntries(tokener, childSchema, childTree, schemaIS);
+        } else if (childSchema instanceof LeafListSchemaNode) {
+            trackLeafListEntries(tokener, childTree);
+        } else if (childSchema instanceof DataNodeContainer) {
+            childTree.addOccurrence();
+            expect(tokener, '{');
+            trackObject(tokener, childSchema, childSchema.getQName().getNamespace(), childTree, schemaIS);
+        } else {
+            childTree.addOccurrence();
+            childTree.addTextBytes(skipValue(tokener));
+        }
+        for (int i = 0; i < childDataSchemaNodes.size(); i++) {
+            schemaIS.exit();
+        }
+    }
+
+    private boolean isDataWrapper(final String localName, final XMLNamespace parentNamespace,
+            final SchemaTree schemaTree) {
+        return parentNamespace == null && schemaTree == tree && DATA_WRAPPER.equals(localName);
+    }
+
+    private void trackDataWrapper(final JSONTokener tokener, final DataSchemaNode parentSchema,
+            final SchemaTree schemaTree, final SchemaInferenceStack schemaIS) {
+        expect(tokener, '{');
+        trackObject(tokener, parentSchema, null, schemaTree, schemaIS);
+    }
+
+    private void trackListEntries(final JSONTokener tokener, final DataSchemaNode listSchema,
+            final SchemaTree listTree, final SchemaInferenceStack schemaIS) {
+        expect(tokener, '[');
+        char next = tokener.nextClean();
+        int entries = 0;
+        while (next != ']') {
+            if (next != '{') {
+                throw tokener.syntaxError("Expected list entry object");
+            }
+            if (sampleLimit > 0 && entries >= sampleLimit) {
+                skippedEntries++;
+                skipComposite(tokener);
+            } else {
+                entries++;
+                listTree.addOccurrence();
+                trackObject(tokener, listSchema, listSchema.getQName().getNamespace(), listTree, schemaIS);
+            }
+            next = tokener.nextClean();
+            if (next == ',') {
+                next = tokener.nextClean();
+            } else if (next != ']') {
+                throw tokener.syntaxError("Expected ',' or ']'");
+            }
+        }
+        listTree.updateMaxListSize(entries);
+    }
+
+    private static void trackLeafListEntries(final JSONTokener tokener, final SchemaTree leafListTree) {
+        expect(tokener, '[');
+        char next = tokener.nextClean();
+        int entries = 0;
+        while (next != ']') {
+            tokener.back();
+            entries++;
+            leafListTree.addOccurrence();
+            leafListTree.addTextBytes(skipValue(tokener));
+            next = tokener.nextClean();
+            if (next == ',') {
+                next = tokener.nextClean();
+            } else if (next != ']') {
+                throw tokener.syntaxError("Expected ',' or ']'");
+            }
+        }
+        leafListTree.updateMaxListSize(entries);
+    }
+
+    private XMLNamespace resolveNamespace(final String moduleName) {
+        return moduleNamespaces.computeIfAbsent(moduleName, name -> {
+            final Collection<? extends Module> modules = modelContext.findModules(name);
+            return modules.isEmpty() ? Optional.empty() : Optional.of(modules.iterator().next().getNamespace());
+        }).orElse(null);
+    }
+
+    private static void expect(final JSONTokener tokener, final char expected) {
+        final char next = tokener.nextClean();
+        if (next != expected) {
+            throw tokener.syntaxError(String.format("Expected '%s' but found '%s'", expected, next));
+        }
+    }
+
+    /**
+     * Skip the next value.
+     *
+     * @param tokener JSON tokener
+     * @return length of the value in UTF-8 if it is a string, number or literal, 0 for object or array
+     */
+    private static long skipValue(final JSONTokener tokener) {
+        final char next = tokener.nextClean();
+        if (next == '"') {
+            return Utf8.encodedLength(tokener.nextString('"'));
+        } else if (next == '{' || next == '[') {
+            skipComposite(tokener);
+            return 0;
+        } else if (next == 0 || VALUE_DELIMITERS.indexOf(next) >= 0) {
+            throw tokener.syntaxError("Expected value");
+        }
+        // number, true, false or null
+        long length = 1;
+        char literal = tokener.next();
+        while (literal != 0 && VALUE_DELIMITERS.indexOf(literal) < 0 && !Character.isWhitespace(literal)) {
+            length++;
+            literal = tokener.next();
+        }
+        tokener.back();
+        return length;
+    }
+
+    private static void skipComposite(final JSONTokener tokener) {
+        int levelOfNesting = 0;
+        while (true) {
+            final char next = tokener.next();
+            if (next == 0) {
+                throw tokener.syntaxError("Unterminated object or array");
+            } else if (next == '"') {
+                tokener.nextString('"');
+            } else if (next == '{' || next == '[') {
+                levelOfNesting++;
+            } else if (next == '}' || next == ']') {
+                if (levelOfNesting == 0) {
+                    return;
+                }
+                levelOfNesting--;
+            }
+        }
+    }
+}
@@ -13,20 +13,25 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.Utf8;
 import com.google.common.collect.ImmutableMap;
 import io.lighty.yang.validator.simplify.SchemaTree;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.CharBuffer;
 import java.util.AbstractMap.SimpleImmutableEntry;
-import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.Location;
@@ -55,11 +60,14 @@ import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ListEntryNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.codec.TypeAwareCodec;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.w3c.dom.Document;
@@ -68,7 +76,8 @@ import org.w3c.dom.Document;
  * This class provides functionality for parsing an XML source containing YANG-modeled data. It disallows multiple
  * instances of the same element except for leaf-list and list entries. It also expects that the YANG-modeled data in
  * the XML source are wrapped in a root element. This class is copied from ODL XmlParserStream and adjusted to fill in
- * our SchemaTree class in read function
+ * our SchemaTree class in read function. When created without a {@link NormalizedNodeStreamWriter}, the parser only
+ * tracks schema nodes used by the XML source in the SchemaTree, without building the data or decoding leaf values.
  */
 @Beta
 public final class TrackingXmlParserStream implements Closeable, Flushable {
@@ -87,18 +96,104 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
 
     private final NormalizedNodeStreamWriter writer;
     private final XmlCodecFactory codecs;
+    private final Map<DataSchemaNode, TypeAwareCodec<?, NamespaceContext, ?>> nodeCodecs;
+    private final SchemaChildIndex childIndex;
     private final DataSchemaNode parentNode;
     private final boolean strictParsing;
+    private final int sampleLimit;
+    private final boolean skipAnyxmlValues;
 
     private final SchemaTree tree;
+    private long skippedEntries;
 
     public TrackingXmlParserStream(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
             final DataSchemaNode parentNode, final boolean strictParsing, final SchemaTree tree) {
+        this(writer, codecs, parentNode, strictParsing, tree, 0);
+    }
+
+    /**
+     * Create parser which skips entries of each list instance after the first {@code sampleLimit} entries.
+     *
+     * @param writer        writer of the parsed data
+     * @param codecs        codec factory providing model context of the XML source
+     * @param parentNode    parent schema node of the XML source root element children
+     * @param strictParsing whether elements without schema should fail the parsing
+     * @param tree          SchemaTree to be filled in
+     * @param sampleLimit   number of parsed entries of each list instance, 0 to parse all the entries
+     */
+    public TrackingXmlParserStream(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
+            final DataSchemaNode parentNode, final boolean strictParsing, final SchemaTree tree,
+            final int sampleLimit) {
+        this(writer, codecs, parentNode, strictParsing, tree, sampleLimit, false, new ConcurrentHashMap<>(),
+                new SchemaChildIndex());
+    }
+
+    /**
+     * Create parser which optionally leaves out values of anyxml and anydata nodes. Their elements are skipped
+     * without being read into a DOM document and the nodes are not written to the {@code writer}, they are only
+     * tracked in the SchemaTree.
+     *
+     * @param writer           writer of the parsed data
+     * @param codecs           codec factory providing model context of the XML source
+     * @param parentNode       parent schema node of the XML source root element children
+     * @param strictParsing    whether elements without schema should fail the parsing
+     * @param tree             SchemaTree to be filled in
+     * @param sampleLimit      number of parsed entries of each list instance, 0 to parse all the entries
+     * @param skipAnyxmlValues whether anyxml and anydata nodes should be left out of the written data
+     * @param nodeCodecs       thread safe map of codecs of leaf and leaf-list nodes created by {@code codecs}, shared
+     *                         by parsers using the same codec factory, so each node resolves its codec only once
+     * @param childIndex       index of schema children of the model context of {@code codecs}
+     */
+    public TrackingXmlParserStream(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
+            final DataSchemaNode parentNode, final boolean strictParsing, final SchemaTree tree,
+            final int sampleLimit, final boolean skipAnyxmlValues,
+            final Map<DataSchemaNode, TypeAwareCodec<?, NamespaceContext, ?>> nodeCodecs,
+            final SchemaChildIndex childIndex) {
         this.writer = requireNonNull(writer);
         this.codecs = requireNonNull(codecs);
+        this.nodeCodecs = requireNonNull(nodeCodecs);
+        this.childIndex = requireNonNull(childIndex);
+        this.parentNode = parentNode;
+        this.strictParsing = strictParsing;
+        this.tree = tree;
+        this.sampleLimit = sampleLimit;
+        this.skipAnyxmlValues = skipAnyxmlValues;
+    }
+
+    /**
+     * Create parser which only fills in the {@code tree} with schema nodes used by the XML source. Data are not
+     * built, so memory consumption does not grow with the size of the XML source.
+     *
+     * @param codecs        codec factory providing model context of the XML source
+     * @param parentNode    parent schema node of the XML source root element children
+     * @param strictParsing whether elements without schema should fail the parsing
+     * @param tree          SchemaTree to be filled in
+     * @param sampleLimit   number of tracked entries of each list instance, 0 to track all the entries
+     * @param nodeCodecs    thread safe map of codecs of leaf and leaf-list nodes created by {@code codecs}
+     * @param childIndex    index of schema children of the model context of {@code codecs}
+     */
+    public TrackingXmlParserStream(final XmlCodecFactory codecs, final DataSchemaNode parentNode,
+            final boolean strictParsing, final SchemaTree tree, final int sampleLimit,
+            final Map<DataSchemaNode, TypeAwareCodec<?, NamespaceContext, ?>> nodeCodecs,
+            final SchemaChildIndex childIndex) {
+        this.writer = null;
+        this.codecs = requireNonNull(codecs);
+        this.nodeCodecs = requireNonNull(nodeCodecs);
+        this.childIndex = requireNonNull(childIndex);
         this.parentNode = parentNode;
         this.strictParsing = strictParsing;
         this.tree = tree;
+        this.sampleLimit = sampleLimit;
+        this.skipAnyxmlValues = true;
+    }
+
+    /**
+     * Get number of list entries skipped because of the sample limit.
+     *
+     * @return number of skipped list entries
+     */
+    public long getSkippedEntries() {
+        return skippedEntries;
     }
 
     /**
@@ -114,6 +209,9 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
      */
     public TrackingXmlParserStream parse(final XMLStreamReader reader) throws XMLStreamException, URISyntaxException,
             IOException {
+        if (writer == null) {
+            return track(reader);
+        }
         if (reader.hasNext()) {
             reader.nextTag();
             final var nodeDataWithSchema = AbstractNodeDataWithSchema.of(parentNode);
@@ -125,6 +223,118 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
         return this;
     }
 
+    private TrackingXmlParserStream track(final XMLStreamReader reader) throws XMLStreamException {
+        if (reader.hasNext()) {
+            reader.nextTag();
+            final SchemaInferenceStack schemaIS = SchemaInferenceStack.of(codecs.modelContext());
+            trackChildren(reader, parentNode, tree, schemaIS);
+        }
+        return this;
+    }
+
+    /**
+     * Recursive method which populates the {@link SchemaTree} {@code schemaTree} with schema nodes of the children
+     * of the current element. Values of leaf, leaf-list and anyxml elements are skipped without being read.
+     *
+     * @param in           StAX based XML reader positioned at the start of the parent element
+     * @param parentSchema schema node of the parent element
+     * @param schemaTree   SchemaTree node of the parent element
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML
+     */
+    private void trackChildren(final XMLStreamReader in, final DataSchemaNode parentSchema,
+            final SchemaTree schemaTree, final SchemaInferenceStack schemaIS) throws XMLStreamException {
+        final Set<Entry<String, String>> namesakes = new HashSet<>();
+        Map<DataSchemaNode, Integer> listEntries = null;
+        while (in.hasNext()) {
+            final int event = in.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            final String xmlElementName = in.getLocalName();
+            final String xmlElementNamespace = in.getNamespaceURI();
+            final List<DataSchemaNode> childDataSchemaNodes =
+                    childIndex.findChildPath(parentSchema, xmlElementNamespace, xmlElementName);
+            if (childDataSchemaNodes.isEmpty()) {
+                checkState(!strictParsing, "Schema for node with name %s and namespace %s does not exist in %s",
+                        xmlElementName, xmlElementNamespace, parentSchema.getQName());
+                skipElement(in);
+                continue;
+            }
+            final DataSchemaNode childSchema = childDataSchemaNodes.get(childDataSchemaNodes.size() - 1);
+            int listSize = 0;
+            if (childSchema instanceof ListSchemaNode || childSchema instanceof LeafListSchemaNode) {
+                if (listEntries == null) {
+                    listEntries = new HashMap<>();
+                }
+                listSize = listEntries.merge(childSchema, 1, Integer::sum);
+                if (sampleLimit > 0 && listSize > sampleLimit && childSchema instanceof ListSchemaNode) {
+                    skippedEntries++;
+                    skipElement(in);
+                    continue;
+                }
+            } else {
+                getXmlElementNamespace(in, namesakes, xmlElementName);
+            }
+            final SchemaTree childTree = getSchemaTreeWithAddedChildren(schemaTree, childDataSchemaNodes, schemaIS);
+            childTree.addOccurrence();
+            childTree.updateMaxListSize(listSize);
+            if (childSchema instanceof DataNodeContainer) {
+                trackChildren(in, childSchema, childTree, schemaIS);
+            } else {
+                childTree.addTextBytes(skipElementText(in));
+            }
+            for (int i = 0; i < childDataSchemaNodes.size(); i++) {
+                schemaIS.exit();
+            }
+        }
+    }
+
+    private static void skipElement(final XMLStreamReader in) throws XMLStreamException {
+        int levelOfNesting = 0;
+        while (in.hasNext()) {
+            final int event = in.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                levelOfNesting++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (levelOfNesting == 0) {
+                    return;
+                }
+                levelOfNesting--;
+            }
+        }
+    }
+
+    /**
+     * Skip the current element like {@link #skipElement(XMLStreamReader)}, counting its text.
+     *
+     * @param in StAX based XML reader positioned at the start of the element
+     * @return length of the text of the element in UTF-8
+     * @throws XMLStreamException if a well-formedness error occurs while skipping the element
+     */
+    private static long skipElementText(final XMLStreamReader in) throws XMLStreamException {
+        long textBytes = 0;
+        int levelOfNesting = 0;
+        while (in.hasNext()) {
+            final int event = in.next();
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                textBytes += Utf8.encodedLength(CharBuffer.wrap(in.getTextCharacters(), in.getTextStart(),
+                        in.getTextLength()));
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                levelOfNesting++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (levelOfNesting == 0) {
+                    break;
+                }
+                levelOfNesting--;
+            }
+        }
+        return textBytes;
+    }
+
     private static ImmutableMap<QName, Object> getElementAttributes(final XMLStreamReader in) {
         checkState(in.isStartElement(), "Attributes can be extracted only from START_ELEMENT.");
         final Map<QName, String> attributes = new LinkedHashMap<>();
@@ -198,7 +408,9 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
 
         if (parent instanceof LeafNodeDataWithSchema || parent instanceof LeafListEntryNodeDataWithSchema) {
             parent.setAttributes(getElementAttributes(in));
-            setValue(parent, in.getElementText().trim(), in.getNamespaceContext(), schemaIS);
+            final String text = in.getElementText();
+            schemaTree.addTextBytes(Utf8.encodedLength(text));
+            setValue(parent, text.trim(), in.getNamespaceContext(), schemaIS);
             if (!isNextEndDocument(in) && !isAtElement(in)) {
                 in.nextTag();
             }
@@ -229,14 +441,23 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
             final String rootElement, final SchemaTree schemaTree, final SchemaInferenceStack schemaIS)
             throws XMLStreamException, URISyntaxException {
         String xmlElementName = in.getLocalName();
+        int entries = 0;
         while (xmlElementName.equals(parent.getSchema().getQName().getLocalName())) {
-            read(in, newEntryNode(parent), rootElement, schemaTree, schemaIS);
+            if (sampleLimit > 0 && entries >= sampleLimit && parent instanceof ListNodeDataWithSchema) {
+                skippedEntries++;
+                skipUnknownNode(in);
+            } else {
+                entries++;
+                schemaTree.addOccurrence();
+                read(in, newEntryNode(parent), rootElement, schemaTree, schemaIS);
+            }
             if (in.getEventType() == XMLStreamConstants.END_DOCUMENT
                     || in.getEventType() == XMLStreamConstants.END_ELEMENT) {
                 break;
             }
             xmlElementName = in.getLocalName();
         }
+        schemaTree.updateMaxListSize(entries);
     }
 
     private void readTaggedData(final XMLStreamReader in, final AbstractNodeDataWithSchema<?> parent,
@@ -299,9 +520,8 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
              Finds the actual nodes from the provided schema based on the xml element name and namespace
              defined in the xmlns="[namespace]" metadata.
              */
-            final Deque<DataSchemaNode> childDataSchemaNodes =
-                    ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, xmlElementName,
-                            XMLNamespace.of(xmlElementNamespace));
+            final List<DataSchemaNode> childDataSchemaNodes =
+                    childIndex.findChildPath(parentSchema, xmlElementNamespace, xmlElementName);
 
             if (childDataSchemaNodes.isEmpty()) {
                 checkState(!strictParsing, "Schema for node with name %s and namespace %s does not exist at %s",
@@ -313,8 +533,22 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
             final SchemaTree parentTree = schemaTree;
             final int countOfSchemaISLevels = childDataSchemaNodes.size();
             schemaTree = getSchemaTreeWithAddedChildren(schemaTree, childDataSchemaNodes, schemaIS);
-            read(in, ((CompositeNodeDataWithSchema<?>) parent).addChild(childDataSchemaNodes, ChildReusePolicy.NOOP),
-                    rootElement, schemaTree, schemaIS);
+            final DataSchemaNode childSchema = childDataSchemaNodes.get(countOfSchemaISLevels - 1);
+            if (!(childSchema instanceof ListSchemaNode) && !(childSchema instanceof LeafListSchemaNode)) {
+                // entries of lists and leaf-lists are counted when they are read
+                schemaTree.addOccurrence();
+            }
+            if (skipAnyxmlValues && (childSchema instanceof AnyxmlSchemaNode
+                    || childSchema instanceof AnydataSchemaNode)) {
+                schemaTree.addTextBytes(skipElementText(in));
+                if (!isNextEndDocument(in) && !isAtElement(in)) {
+                    in.nextTag();
+                }
+            } else {
+                // addChild consumes the deque, the indexed path is shared
+                read(in, ((CompositeNodeDataWithSchema<?>) parent).addChild(new ArrayDeque<>(childDataSchemaNodes),
+                        ChildReusePolicy.NOOP), rootElement, schemaTree, schemaIS);
+            }
             schemaTree = parentTree;
             for (int i = 0; i < countOfSchemaISLevels; i++) {
                 schemaIS.exit();
@@ -334,33 +568,34 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
         return xmlElementNamespace;
     }
 
-    private static SchemaTree getSchemaTreeWithAddedChildren(SchemaTree schemaTree,
-            final Deque<DataSchemaNode> childDataSchemaNodes, final SchemaInferenceStack schemaIS) {
+    /**
+     * Add nodes of the path to the SchemaTree, entering each of them in the stack. Nodes under the root and nodes
+     * from a different module than their parent are added as root nodes, the latter also as augmenting.
+     *
+     * @param schemaTree tree the first node is added to
+     * @param childDataSchemaNodes path of nodes, each one a child of the previous one
+     * @param schemaIS stack positioned at the schema node of the tree
+     * @return tree of the last node of the path
+     */
+    public static SchemaTree getSchemaTreeWithAddedChildren(SchemaTree schemaTree,
+            final Collection<DataSchemaNode> childDataSchemaNodes, final SchemaInferenceStack schemaIS) {
         for (final DataSchemaNode less : childDataSchemaNodes) {
+            schemaIS.enterSchemaTree(less.getQName());
             /*
              Check if SchemaNode found based on the xmlElementName is direct child of the root node.
              If yes, the node is not from another module.
              */
-            schemaIS.enterSchemaTree(less.getQName());
-            final List<QName> nodeIdentifiers = schemaIS.toSchemaNodeIdentifier().getNodeIdentifiers();
-            if (nodeIdentifiers.size() == 1) {
-                schemaTree = schemaTree.addChild(less, true, false,
-                        schemaIS.toSchemaNodeIdentifier());
+            if (schemaTree.getParent() == null) {
+                schemaTree = schemaTree.addChild(less, true, false);
             /*
              If not, the node can be augmented, we need to check if the modules
-             of it's parent and grand parent. If they are not the same, the node is from another module,
+             of it's parent and the node. If they are not the same, the node is from another module,
              therefore we treat it as augment.
              */
+            } else if (schemaTree.getQname().getModule().equals(less.getQName().getModule())) {
+                schemaTree = schemaTree.addChild(less, false, false);
             } else {
-                final QName first = nodeIdentifiers.get(nodeIdentifiers.size() - 1);
-                final QName second = nodeIdentifiers.get(nodeIdentifiers.size() - 2);
-                if (second.getModule().equals(first.getModule())) {
-                    schemaTree = schemaTree.addChild(less, false, false,
-                            schemaIS.toSchemaNodeIdentifier());
-                } else {
-                    schemaTree = schemaTree.addChild(less, true, true,
-                            schemaIS.toSchemaNodeIdentifier());
-                }
+                schemaTree = schemaTree.addChild(less, true, true);
             }
         }
         return schemaTree;
@@ -438,8 +673,13 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
 
         checkArgument(node instanceof TypedDataSchemaNode);
         checkArgument(value instanceof String);
-        final TypeAwareCodec<?, NamespaceContext, ?> xmlCodec
-                = codecs.codecFor((TypedDataSchemaNode) node, schemaIS);
+        TypeAwareCodec<?, NamespaceContext, ?> xmlCodec = nodeCodecs.get(node);
+        if (xmlCodec == null) {
+            // the stack is positioned at the node, it is needed to resolve leafref types. Union codecs hold codecs
+            // of their member types, so members are resolved only once as well
+            xmlCodec = codecs.codecFor((TypedDataSchemaNode) node, schemaIS);
+            nodeCodecs.putIfAbsent(node, xmlCodec);
+        }
         return xmlCodec.parseValue(namespaceCtx, (String) value);
     }
 
@@ -457,13 +697,17 @@ public final class TrackingXmlParserStream implements Closeable, Flushable {
 
     @Override
     public void close() throws IOException {
-        writer.flush();
-        writer.close();
+        if (writer != null) {
+            writer.flush();
+            writer.close();
+        }
     }
 
     @Override
     public void flush() throws IOException {
-        writer.flush();
+        if (writer != null) {
+            writer.flush();
+        }
     }
 }
 
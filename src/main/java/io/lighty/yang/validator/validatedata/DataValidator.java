@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.validatedata;
+
+import io.lighty.yang.validator.exceptions.LyvApplicationException;
+import io.lighty.yang.validator.exceptions.NotFoundException;
+import io.lighty.yang.validator.simplify.SchemaTree;
+import io.lighty.yang.validator.simplify.stream.SchemaChildIndex;
+import io.lighty.yang.validator.simplify.stream.TrackingXmlParserStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.data.util.codec.TypeAwareCodec;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validates xml instance data files against the model context. Files are parsed in parallel, each of them is
+ * parsed with codecs of its leaf types, so types and list keys are checked while parsing, then mandatory nodes,
+ * number of entries and leafref targets are checked on the parsed data.
+ */
+public class DataValidator {
+
+    /**
+     * Exit status of the application when any of the files is not valid.
+     */
+    public static final int INVALID_DATA_EXIT_CODE = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataValidator.class);
+    // XMLInputFactory is not guaranteed to be thread safe
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XMLInputFactory::newInstance);
+    private static final String JSON_EXTENSION = ".json";
+
+    private final EffectiveModelContext context;
+    @SuppressWarnings("UnstableApiUsage")
+    private final XmlCodecFactory codecs;
+    // codecs of leaf and leaf-list nodes created by the codec factory, resolved once per node
+    private final Map<DataSchemaNode, TypeAwareCodec<?, NamespaceContext, ?>> nodeCodecs = new ConcurrentHashMap<>();
+    private final SchemaChildIndex childIndex = new SchemaChildIndex();
+    private final Map<Absolute, Optional<Absolute>> leafrefTargets = new ConcurrentHashMap<>();
+    private final Map<QNameModule, String> moduleNames = new ConcurrentHashMap<>();
+    private final List<FileResult> results = new ArrayList<>();
+    private long elapsedNanos;
+
+    @SuppressWarnings("UnstableApiUsage")
+    public DataValidator(final EffectiveModelContext context) {
+        this.context = context;
+        codecs = XmlCodecFactory.create(context);
+    }
+
+    /**
+     * Validate the files. Directories are replaced by files they contain. Json files are not supported, they are
+     * skipped with a warning and are not counted as invalid.
+     *
+     * @param paths paths of the files or directories
+     * @throws LyvApplicationException if the files can not be listed or the validation is interrupted
+     */
+    public void validate(final List<String> paths) throws LyvApplicationException {
+        final List<Path> files = new ArrayList<>();
+        for (final Path file : listFiles(paths)) {
+            if (file.toString().endsWith(JSON_EXTENSION)) {
+                LOG.warn("{}: json instance data are not supported, file skipped", file);
+            } else {
+                files.add(file);
+            }
+        }
+        final long start = System.nanoTime();
+        final int workers = Math.max(1, Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            final List<Future<FileResult>> futures = new ArrayList<>();
+            for (final Path file : files) {
+                futures.add(executor.submit(() -> validateFile(file)));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                results.add(getFileResult(files.get(i), futures.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Print errors of each file in the order of the files, followed by the number of invalid files
+     * and the throughput.
+     */
+    public void printResults() {
+        int invalidFiles = 0;
+        int errors = 0;
+        for (final FileResult result : results) {
+            if (result.errors.isEmpty()) {
+                LOG.debug("{}: valid", result.file);
+                continue;
+            }
+            invalidFiles++;
+            errors += result.errors.size();
+            for (final String error : result.errors) {
+                LOG.error("{}: {}", result.file, error);
+            }
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        final double documentsPerSecond = elapsedNanos == 0 ? 0.0
+                : results.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        LOG.info("Validated {} files in {} ms ({} documents per second), {} invalid files, {} errors",
+                results.size(), elapsedMillis, String.format("%.1f", documentsPerSecond), invalidFiles, errors);
+    }
+
+    /**
+     * Get number of errors found in all the files.
+     *
+     * @return number of errors
+     */
+    public int getErrorCount() {
+        return results.stream().mapToInt(result -> result.errors.size()).sum();
+    }
+
+    /**
+     * Get errors found in all the files, in the order of the files.
+     *
+     * @return error messages
+     */
+    List<String> getErrors() {
+        return results.stream().flatMap(result -> result.errors.stream()).collect(Collectors.toList());
+    }
+
+    private static List<Path> listFiles(final List<String> paths) throws LyvApplicationException {
+        final List<Path> files = new ArrayList<>();
+        for (final String path : paths) {
+            final Path dataPath = Paths.get(path);
+            if (!Files.isDirectory(dataPath)) {
+                files.add(dataPath);
+                continue;
+            }
+            try (Stream<Path> dir = Files.list(dataPath)) {
+                files.addAll(dir.filter(Files::isRegularFile).sorted().collect(Collectors.toList()));
+            } catch (final IOException e) {
+                throw new LyvApplicationException(String.format("Failed to list files of %s", path), e);
+            }
+        }
+        return files;
+    }
+
+    private static FileResult getFileResult(final Path file, final Future<FileResult> future)
+            throws LyvApplicationException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            // unexpected failure of a single file does not stop validation of the others
+            final FileResult result = new FileResult(file);
+            result.addError(null, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            return result;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LyvApplicationException("Interrupted while validating data", e);
+        }
+    }
+
+    private FileResult validateFile(final Path file) {
+        final FileResult result = new FileResult(file);
+        try (InputStream input = Files.newInputStream(file)) {
+            final XMLStreamReader reader = FACTORY.get().createXMLStreamReader(input);
+            try {
+                parseAndCheck(reader, result);
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                // values not matching their type, missing keys and unknown elements
+                result.addError(reader.getLocation(), e);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            result.addError(e.getLocation(), e);
+        } catch (final IOException | URISyntaxException e) {
+            result.addError(null, e);
+        }
+        return result;
+    }
+
+    private void parseAndCheck(final XMLStreamReader reader, final FileResult result)
+            throws XMLStreamException, IOException, URISyntaxException {
+        final NormalizationResultHolder holder = new NormalizationResultHolder();
+        final SchemaTree tree = SchemaTree.createRoot();
+        try (var xmlParser = new TrackingXmlParserStream(ImmutableNormalizedNodeStreamWriter.from(holder), codecs,
+                context, true, tree, 0, false, nodeCodecs, childIndex)) {
+            xmlParser.parse(reader);
+        }
+        new InstanceDataChecker(this::resolveLeafrefTarget, this::getModuleName, result.errors)
+                .check(context.getChildNodes(), (DataContainerNode) holder.getResult().data(), tree);
+    }
+
+    private Optional<Absolute> resolveLeafrefTarget(final Absolute leafPath) {
+        return leafrefTargets.computeIfAbsent(leafPath, path -> {
+            try {
+                final SchemaInferenceStack stack = SchemaInferenceStack.of(context, path);
+                final LeafrefTypeDefinition leafref = (LeafrefTypeDefinition)
+                        ((TypedDataSchemaNode) stack.currentStatement()).getType();
+                stack.resolvePathExpression(leafref.getPathStatement());
+                return Optional.of(stack.toSchemaNodeIdentifier());
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                // deref() and other paths which can not be followed in the schema are not checked
+                LOG.debug("Leafref target of {} not resolved", path, e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    private String getModuleName(final QNameModule module) {
+        return moduleNames.computeIfAbsent(module, key -> context.findModule(key).map(Module::getName)
+                .orElseThrow(() -> new NotFoundException("Module", key.toString())));
+    }
+
+    private static final class FileResult {
+
+        private final Path file;
+        private final List<String> errors = new ArrayList<>();
+
+        FileResult(final Path file) {
+            this.file = file;
+        }
+
+        void addError(final Location location, final Exception exception) {
+            final String message = exception.getMessage() == null ? exception.toString() : exception.getMessage();
+            if (location == null) {
+                errors.add(message);
+            } else {
+                errors.add(location.getLineNumber() + ":" + location.getColumnNumber() + ": " + message);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.validatedata;
+
+import io.lighty.yang.validator.simplify.SchemaTree;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ElementCountConstraint;
+import org.opendaylight.yangtools.yang.model.api.ElementCountConstraintAware;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.MandatoryAware;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.WhenConditionAware;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+
+/**
+ * Checks constraints which can not be checked while the instance data are parsed: mandatory nodes, number of list
+ * and leaf-list entries and existence of leafref targets. Data are walked along the schema, so only nodes known to
+ * the schema are visited. Nodes with when condition are not required, since the condition is not evaluated.
+ * Leafref value is accepted if any instance of the target node in the same document has the value, predicates of
+ * the leafref path are not evaluated.
+ */
+final class InstanceDataChecker {
+
+    private final Function<Absolute, Optional<Absolute>> leafrefTargets;
+    private final Function<QNameModule, String> moduleNames;
+    private final List<String> errors;
+    private final Map<Absolute, Set<Object>> values = new HashMap<>();
+    private final List<LeafrefValue> leafrefValues = new ArrayList<>();
+
+    /**
+     * Create checker of a single document.
+     *
+     * @param leafrefTargets resolves path of the leafref leaf to path of its target, empty if it can not be resolved
+     * @param moduleNames    resolves name of the module used in instance paths of the errors
+     * @param errors         list the errors are added to
+     */
+    InstanceDataChecker(final Function<Absolute, Optional<Absolute>> leafrefTargets,
+            final Function<QNameModule, String> moduleNames, final List<String> errors) {
+        this.leafrefTargets = leafrefTargets;
+        this.moduleNames = moduleNames;
+        this.errors = errors;
+    }
+
+    /**
+     * Check the document.
+     *
+     * @param rootSchemas schema nodes of top-level data
+     * @param root        data of the document
+     * @param tree        root of the tree, which provides paths of the schema nodes
+     */
+    void check(final Collection<? extends DataSchemaNode> rootSchemas, final DataContainerNode root,
+            final SchemaTree tree) {
+        // top-level nodes are not required in a single document
+        checkChildren(rootSchemas, root, tree, null, false);
+        for (final LeafrefValue leafrefValue : leafrefValues) {
+            final Optional<Absolute> target = leafrefTargets.apply(leafrefValue.path);
+            if (target.isPresent()
+                    && !values.getOrDefault(target.orElseThrow(), Set.of()).contains(leafrefValue.value)) {
+                errors.add(String.format("%s: leafref value '%s' does not refer to an existing instance of %s",
+                        describe(leafrefValue.instancePath), leafrefValue.value, target.orElseThrow()));
+            }
+        }
+    }
+
+    private void checkChildren(final Collection<? extends DataSchemaNode> childSchemas,
+            final DataContainerNode data, final SchemaTree tree, final InstancePath instancePath,
+            final boolean mandatoryChecked) {
+        for (final DataSchemaNode childSchema : childSchemas) {
+            final DataContainerChild child = data.childByArg(new NodeIdentifier(childSchema.getQName()));
+            if (child == null) {
+                if (mandatoryChecked && isMandatory(childSchema)) {
+                    errors.add(String.format("%s: missing mandatory node %s", describe(instancePath),
+                            childSchema.getQName().getLocalName()));
+                }
+                continue;
+            }
+            final SchemaTree childTree = tree.addChild(childSchema, false, false);
+            if (childSchema instanceof ChoiceSchemaNode && child instanceof ChoiceNode) {
+                checkChoice((ChoiceSchemaNode) childSchema, (ChoiceNode) child, childTree, instancePath);
+            } else if (childSchema instanceof ContainerSchemaNode && child instanceof DataContainerNode) {
+                checkChildren(((ContainerSchemaNode) childSchema).getChildNodes(), (DataContainerNode) child,
+                        childTree, new InstancePath(instancePath, childSchema.getQName(), null, null), true);
+            } else if (childSchema instanceof ListSchemaNode) {
+                checkList((ListSchemaNode) childSchema, child, childTree, instancePath);
+            } else if (childSchema instanceof LeafListSchemaNode && child instanceof LeafSetNode) {
+                final Collection<? extends LeafSetEntryNode<?>> entries = ((LeafSetNode<?>) child).body();
+                final InstancePath leafListPath = new InstancePath(instancePath, childSchema.getQName(), null, null);
+                checkElementCount(childSchema, entries.size(), leafListPath);
+                for (final LeafSetEntryNode<?> entry : entries) {
+                    addValue(childSchema, childTree, entry.body(), leafListPath);
+                }
+            } else if (childSchema instanceof LeafSchemaNode && child instanceof LeafNode) {
+                addValue(childSchema, childTree, ((LeafNode<?>) child).body(),
+                        new InstancePath(instancePath, childSchema.getQName(), null, null));
+            }
+        }
+    }
+
+    private void checkChoice(final ChoiceSchemaNode choice, final ChoiceNode data, final SchemaTree tree,
+            final InstancePath instancePath) {
+        for (final CaseSchemaNode caseNode : choice.getCases()) {
+            for (final DataSchemaNode caseChild : caseNode.getChildNodes()) {
+                if (data.childByArg(new NodeIdentifier(caseChild.getQName())) != null) {
+                    // mandatory nodes of the case are required only once the case is present
+                    checkChildren(caseNode.getChildNodes(), data, tree.addChild(caseNode, false, false),
+                            instancePath, true);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void checkList(final ListSchemaNode list, final DataContainerChild data, final SchemaTree tree,
+            final InstancePath instancePath) {
+        if (data instanceof MapNode) {
+            final Collection<MapEntryNode> entries = ((MapNode) data).body();
+            checkElementCount(list, entries.size(), new InstancePath(instancePath, list.getQName(), null, null));
+            for (final MapEntryNode entry : entries) {
+                checkChildren(list.getChildNodes(), entry, tree,
+                        new InstancePath(instancePath, list.getQName(), list, entry), true);
+            }
+        } else if (data instanceof UnkeyedListNode) {
+            final Collection<UnkeyedListEntryNode> entries = ((UnkeyedListNode) data).body();
+            final InstancePath listPath = new InstancePath(instancePath, list.getQName(), null, null);
+            checkElementCount(list, entries.size(), listPath);
+            for (final UnkeyedListEntryNode entry : entries) {
+                checkChildren(list.getChildNodes(), entry, tree, listPath, true);
+            }
+        }
+    }
+
+    private void checkElementCount(final DataSchemaNode schemaNode, final int size, final InstancePath instancePath) {
+        final Optional<ElementCountConstraint> constraint = schemaNode instanceof ElementCountConstraintAware
+                ? ((ElementCountConstraintAware) schemaNode).getElementCountConstraint() : Optional.empty();
+        if (constraint.isEmpty()) {
+            return;
+        }
+        final Integer minElements = constraint.orElseThrow().getMinElements();
+        final Integer maxElements = constraint.orElseThrow().getMaxElements();
+        if (minElements != null && size < minElements) {
+            errors.add(String.format("%s: %d entries, min-elements is %d", describe(instancePath), size,
+                    minElements));
+        } else if (maxElements != null && size > maxElements) {
+            errors.add(String.format("%s: %d entries, max-elements is %d", describe(instancePath), size,
+                    maxElements));
+        }
+    }
+
+    private void addValue(final DataSchemaNode schemaNode, final SchemaTree tree, final Object value,
+            final InstancePath instancePath) {
+        final Absolute path = tree.getAbsolutePath();
+        values.computeIfAbsent(path, key -> new HashSet<>()).add(value);
+        if (((TypedDataSchemaNode) schemaNode).getType() instanceof LeafrefTypeDefinition
+                && ((LeafrefTypeDefinition) ((TypedDataSchemaNode) schemaNode).getType()).requireInstance()) {
+            leafrefValues.add(new LeafrefValue(path, value, instancePath));
+        }
+    }
+
+    private static boolean isMandatory(final DataSchemaNode schemaNode) {
+        if (schemaNode instanceof WhenConditionAware
+                && ((WhenConditionAware) schemaNode).getWhenCondition().isPresent()) {
+            return false;
+        }
+        if (schemaNode instanceof MandatoryAware) {
+            return ((MandatoryAware) schemaNode).isMandatory();
+        }
+        if (schemaNode instanceof ElementCountConstraintAware) {
+            final Optional<ElementCountConstraint> constraint =
+                    ((ElementCountConstraintAware) schemaNode).getElementCountConstraint();
+            return constraint.isPresent() && constraint.orElseThrow().getMinElements() != null
+                    && constraint.orElseThrow().getMinElements() > 0;
+        }
+        if (schemaNode instanceof ContainerSchemaNode && !((ContainerSchemaNode) schemaNode).isPresenceContainer()) {
+            // non-presence container is required if any of its children is required
+            for (final DataSchemaNode child : ((ContainerSchemaNode) schemaNode).getChildNodes()) {
+                if (isMandatory(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String describe(final InstancePath instancePath) {
+        if (instancePath == null) {
+            return "/";
+        }
+        final StringBuilder builder = new StringBuilder();
+        instancePath.appendTo(builder, moduleNames);
+        return builder.toString();
+    }
+
+    /**
+     * Path of a data node, which is turned to string only when an error is reported.
+     */
+    private static final class InstancePath {
+
+        private final InstancePath parent;
+        private final QName qname;
+        private final ListSchemaNode list;
+        private final MapEntryNode entry;
+
+        InstancePath(final InstancePath parent, final QName qname, final ListSchemaNode list,
+                final MapEntryNode entry) {
+            this.parent = parent;
+            this.qname = qname;
+            this.list = list;
+            this.entry = entry;
+        }
+
+        void appendTo(final StringBuilder builder, final Function<QNameModule, String> moduleNames) {
+            if (parent != null) {
+                parent.appendTo(builder, moduleNames);
+            }
+            builder.append('/');
+            if (parent == null || !parent.qname.getModule().equals(qname.getModule())) {
+                builder.append(moduleNames.apply(qname.getModule())).append(':');
+            }
+            builder.append(qname.getLocalName());
+            if (entry != null) {
+                for (final QName key : list.getKeyDefinition()) {
+                    final DataContainerChild keyLeaf = entry.childByArg(new NodeIdentifier(key));
+                    builder.append('[').append(key.getLocalName()).append("='")
+                            .append(keyLeaf == null ? "" : keyLeaf.body()).append("']");
+                }
+            }
+        }
+    }
+
+    private static final class LeafrefValue {
+
+        private final Absolute path;
+        private final Object value;
+        private final InstancePath instancePath;
+
+        LeafrefValue(final Absolute path, final Object value, final InstancePath instancePath) {
+            this.path = path;
+            this.value = value;
+            this.instancePath = instancePath;
+        }
+    }
+}
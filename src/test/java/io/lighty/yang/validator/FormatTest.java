@@ -55,6 +55,10 @@ public abstract class FormatTest implements Cleanable {
         this.method.invoke(mainClass, this.builder.build());
     }
 
+    protected void setLoggerOutput(final Configuration configuration) throws Exception {
+        this.method.invoke(null, configuration);
+    }
+
     @AfterEach
     public void removeOuptut() throws Exception {
         tearDown();
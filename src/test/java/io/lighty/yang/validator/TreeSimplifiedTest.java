@@ -9,6 +9,8 @@ package io.lighty.yang.validator;
 
 import static io.lighty.yang.validator.Main.startLyv;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.lighty.yang.validator.config.Configuration;
 import io.lighty.yang.validator.config.ConfigurationBuilder;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class TreeSimplifiedTest implements Cleanable {
@@ -82,6 +85,158 @@ public class TreeSimplifiedTest implements Cleanable {
         assertEquals(compareWith, fileCreated);
     }
 
+    @Test
+    public void runTreeSimplifiedTrackingOnlyTest() throws Exception {
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplifyTrackingOnly(true);
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals(compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedFromJsonTest() throws Exception {
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(TreeSimplifiedTest.class.getResource("/json").getFile());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals(compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedFromUnqualifiedJsonDataTest() throws Exception {
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(TreeSimplifiedTest.class.getResource("/jsonUnqualifiedData").getFile());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals(compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedFromMultipleFilesTest() throws Exception {
+        // files are parsed in parallel chunks, merged tree is the same as from the single file
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(TreeSimplifiedTest.class.getResource("/xmlMultipleFiles").getFile());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals(compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedSampleTest() throws Exception {
+        // third interface is skipped, so its description is not in the simplified tree
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(TreeSimplifiedTest.class.getResource("/xmlSample").getFile())
+                .setSimplifySample(2);
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals("Simplify sample skipped 1 list entries\n" + compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedAnyxmlTest() throws Exception {
+        // content of anyxml and anydata is skipped, so its elements do not select nodes of the module
+        prepare("tree", new Tree());
+        final String anyxmlPath = TreeSimplifiedTest.class.getResource("/simplify-anyxml").getFile();
+        final String module = Paths.get(anyxmlPath).resolve("simplify-anyxml-test@2026-01-01.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(Paths.get(anyxmlPath).resolve("data").toString());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve("out.log"));
+        assertTrue(fileCreated.contains("notification* [id]"), fileCreated);
+        assertTrue(fileCreated.contains("payload"), fileCreated);
+        assertTrue(fileCreated.contains("<anyxml>"), fileCreated);
+        assertTrue(fileCreated.contains("details"), fileCreated);
+        assertTrue(fileCreated.contains("<anydata>"), fileCreated);
+        assertFalse(fileCreated.contains("unused"), fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedFromProfileTest() throws Exception {
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        final String profile = Paths.get(outPath).resolve("interfaces.profile").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplifyProfileOutput(profile);
+        LyvEffectiveModelContextFactory.create(builder.build());
+        builder.setSimplify(null)
+                .setSimplifyProfileOutput(null)
+                .setSimplifyProfiles(List.of(profile));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesSimplified.tree"));
+        assertEquals(compareWith, fileCreated);
+    }
+
+    @Test
+    public void runTreeSimplifiedMergeProfileTest(@TempDir final Path xmlDir) throws Exception {
+        // profile selects enabled, new data select description, merged tree and profile contain both
+        prepare("tree", new Tree());
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        final String profile = Paths.get(outPath).resolve("interfaces.profile").toString();
+        final Path merged = Paths.get(outPath).resolve("merged.profile");
+        builder.setYangModules(List.of(module))
+                .setSimplifyProfileOutput(profile);
+        LyvEffectiveModelContextFactory.create(builder.build());
+        Files.writeString(xmlDir.resolve("interfaces.xml"), """
+            <data>
+                <interfaces xmlns="urn:ietf:params:xml:ns:yang:ietf-interfaces">
+                    <interface>
+                        <name>eth1</name>
+                        <description>uplink</description>
+                    </interface>
+                </interfaces>
+            </data>
+            """);
+        builder.setSimplify(xmlDir.toString())
+                .setSimplifyProfiles(List.of(profile))
+                .setSimplifyProfileOutput(merged.toString());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final String fileCreated = Files.readString(outLog);
+        final String compareWith = Files.readString(
+            outLog.resolveSibling("compare").resolve("interfacesMergedProfile.tree"));
+        assertEquals(compareWith, fileCreated);
+        final String mergedProfile = Files.readString(merged);
+        assertTrue(mergedProfile.contains("/ietf-interfaces:interfaces/interface/enabled"));
+        assertTrue(mergedProfile.contains("/ietf-interfaces:interfaces/interface/description"));
+    }
+
     @Test
     public void runYangSimplifiedTest() throws Exception {
         prepare("yang", new MultiModulePrinter());
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.check.update.from;
+
+import static io.lighty.yang.validator.Main.checkUpdateFromRelease;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.yang.validator.Cleanable;
+import io.lighty.yang.validator.Main;
+import io.lighty.yang.validator.checkupdatefrom.CheckUpdateFrom;
+import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.lang.reflect.Constructor;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CheckUpdateFromReleaseTest implements Cleanable {
+
+    private static final String NEW = "/checkUpdateFromYangWithProblems/new/";
+    private static final String OLD = "/checkUpdateFromYangWithProblems/old/";
+    private static final String INET_TYPES = "ietf-inet-types@2013-07-15.yang";
+    private static final String YANG_TYPES = "ietf-yang-types@2013-07-15.yang";
+    private static final String INTERFACES = "ietf-interfaces@2018-02-20.yang";
+    private static final String IP = "ietf-ip@2018-02-22.yang";
+
+    private ConfigurationBuilder builder;
+    private String outPath;
+    private Path yangPath;
+
+    private Method method;
+    private Constructor<Main> constructor;
+
+    @BeforeAll
+    public void init() {
+        outPath = CheckUpdateFromReleaseTest.class.getResource("/out").getFile();
+        yangPath = Paths.get(CheckUpdateFromReleaseTest.class.getResource("/yang").getFile());
+    }
+
+    @BeforeEach
+    public void setUpOutput() throws Exception {
+        constructor = (Constructor<Main>) Main.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        method = Main.class.getDeclaredMethod("setMainLoggerOutput", Configuration.class);
+        final Main mainClass = constructor.newInstance();
+        method.setAccessible(true);
+        final List<String> path = Collections.singletonList(
+                CheckUpdateFromReleaseTest.class.getResource("/yang").getFile());
+        builder = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setOutput(outPath)
+                .setPath(path)
+                .setParseAll(Collections.emptyList())
+                .setCheckUpdateFromConfiguration(7950, path);
+        method.invoke(mainClass, builder.build());
+    }
+
+    @AfterEach
+    public void removeOuptut() throws Exception {
+        tearDown();
+        method.setAccessible(false);
+        constructor.setAccessible(false);
+    }
+
+    @Test
+    public void testReleaseWithWrongRevision() throws Exception {
+        final Configuration config = builder.setCheckUpdateFromRelease(
+                        CheckUpdateFromReleaseTest.class.getResource(OLD + "wrongRevision").getFile(),
+                        CheckUpdateFromReleaseTest.class.getResource(NEW + "wrongRevision").getFile())
+                .build();
+        assertEquals(CheckUpdateFrom.INCOMPATIBLE_UPDATE_EXIT_CODE, checkUpdateFromRelease(config));
+
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve("out.log"));
+        assertTrue(fileCreated.contains("ietf-interfaces: "), fileCreated);
+        assertTrue(fileCreated.contains("revision error"), fileCreated);
+        assertTrue(fileCreated.contains(
+                "Checked 1 modules: 0 unchanged, 0 compatible, 1 with errors, 0 removed, 0 added"), fileCreated);
+    }
+
+    @Test
+    public void testReleaseWithRemovedModule(@TempDir final Path releaseDir) throws Exception {
+        final Configuration config = releaseConfiguration(releaseDir, List.of(INET_TYPES, YANG_TYPES),
+                List.of(YANG_TYPES));
+        assertEquals(CheckUpdateFrom.INCOMPATIBLE_UPDATE_EXIT_CODE, checkUpdateFromRelease(config));
+
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve("out.log"));
+        assertTrue(fileCreated.contains("ietf-inet-types: removed from the new release"), fileCreated);
+    }
+
+    @Test
+    public void testReleaseWithAddedModule(@TempDir final Path releaseDir) throws Exception {
+        // unchanged and added modules are not incompatible
+        final Configuration config = releaseConfiguration(releaseDir, List.of(YANG_TYPES),
+                List.of(YANG_TYPES, INTERFACES));
+        assertEquals(0, checkUpdateFromRelease(config));
+
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve("out.log"));
+        assertTrue(fileCreated.contains("ietf-interfaces: added in the new release"), fileCreated);
+        assertTrue(fileCreated.contains("ietf-yang-types: unchanged"), fileCreated);
+    }
+
+    @Test
+    public void testReleaseWithSeveralModules(@TempDir final Path releaseDir) throws Exception {
+        checkUpdateFromRelease(releaseConfiguration(releaseDir, List.of(INET_TYPES, YANG_TYPES, INTERFACES),
+                List.of(YANG_TYPES, INTERFACES, IP)));
+
+        // modules are checked in parallel, but reported in the order of their names
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve("out.log"));
+        final int inetTypes = fileCreated.indexOf("ietf-inet-types: ");
+        final int interfaces = fileCreated.indexOf("ietf-interfaces: ");
+        final int ip = fileCreated.indexOf("ietf-ip: ");
+        final int yangTypes = fileCreated.indexOf("ietf-yang-types: ");
+        assertTrue(inetTypes >= 0 && inetTypes < interfaces && interfaces < ip && ip < yangTypes, fileCreated);
+        assertTrue(fileCreated.contains(
+                "Checked 4 modules: 2 unchanged, 0 compatible, 0 with errors, 1 removed, 1 added"), fileCreated);
+    }
+
+    private Configuration releaseConfiguration(final Path releaseDir, final List<String> oldModules,
+            final List<String> newModules) throws IOException {
+        // releases are assembled from the shared yang files
+        final Path oldRelease = Files.createDirectories(releaseDir.resolve("old"));
+        final Path newRelease = Files.createDirectories(releaseDir.resolve("new"));
+        copyModules(oldModules, oldRelease);
+        copyModules(newModules, newRelease);
+        return builder.setCheckUpdateFromRelease(oldRelease.toString(), newRelease.toString()).build();
+    }
+
+    private void copyModules(final List<String> modules, final Path release) throws IOException {
+        for (final String module : modules) {
+            Files.copy(yangPath.resolve(module), release.resolve(module));
+        }
+    }
+}
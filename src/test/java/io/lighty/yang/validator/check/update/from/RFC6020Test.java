@@ -9,9 +9,12 @@ package io.lighty.yang.validator.check.update.from;
 
 import static io.lighty.yang.validator.Main.checkUpdateForm;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.lighty.yang.validator.Cleanable;
 import io.lighty.yang.validator.Main;
+import io.lighty.yang.validator.checkupdatefrom.CheckUpdateFrom;
 import io.lighty.yang.validator.config.Configuration;
 import io.lighty.yang.validator.config.ConfigurationBuilder;
 import java.lang.reflect.Constructor;
@@ -96,6 +99,23 @@ public class RFC6020Test implements Cleanable {
                 "checkUpdateFrom2");
     }
 
+    @Test
+    public void testFailFast() throws Exception {
+        final String newFile = RFC6020Test.class.getResource(NEW + "wrongRevision/ietf-interfaces@2014-05-08.yang")
+                .getFile();
+        final String oldFile = RFC6020Test.class.getResource(OLD + "wrongRevision/ietf-interfaces@2018-02-20.yang")
+                .getFile();
+        final Configuration config = builder.setUpdateFrom(oldFile)
+                .setYangModules(Collections.singletonList(newFile))
+                .setCheckUpdateFromConfiguration(7950, Collections.singletonList(yangPath), true)
+                .build();
+        assertEquals(CheckUpdateFrom.INCOMPATIBLE_UPDATE_EXIT_CODE, checkUpdateForm(config));
+
+        final String fileCreated = Files.readString(Paths.get(outPath).resolve(OUT));
+        assertTrue(fileCreated.startsWith("1 revision error: "));
+        assertFalse(fileCreated.contains("2 missing old revision: "));
+    }
+
     private void testCheckUpdateFrom(final String yangDirPart, final String oldModule,
             final String newModule, final String comapreFile) throws Exception {
         final String newMissing = NEW + yangDirPart;
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.check.update.from;
+
+import io.lighty.yang.validator.LyvEffectiveModelContextFactory;
+import io.lighty.yang.validator.checkupdatefrom.SchemaFingerprints;
+import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.nio.file.Paths;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SchemaFingerprintsTest {
+
+    private static final String MODULE = "ietf-interfaces@2018-02-20.yang";
+
+    private Module module;
+    private Module changedModule;
+
+    @BeforeAll
+    public void init() throws Exception {
+        final String yangPath = SchemaFingerprintsTest.class.getResource("/yang").getFile();
+        final String changedPath = SchemaFingerprintsTest.class
+                .getResource("/checkUpdateFromYangWithProblems/old/wrongRevision").getFile();
+        final Configuration configuration = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setPath(Collections.singletonList(yangPath))
+                .build();
+        module = LyvEffectiveModelContextFactory.create(Paths.get(yangPath).resolve(MODULE).toString(),
+                configuration).context().findModules("ietf-interfaces").iterator().next();
+        changedModule = LyvEffectiveModelContextFactory.create(Paths.get(changedPath).resolve(MODULE).toString(),
+                configuration).context().findModules("ietf-interfaces").iterator().next();
+    }
+
+    @Test
+    public void unchangedSubtreeTest() {
+        final SchemaFingerprints fingerprints = SchemaFingerprints.of(module);
+        final SchemaFingerprints changedFingerprints = SchemaFingerprints.of(changedModule);
+        final DataSchemaNode state = findChild(module, "interfaces-state");
+        final DataSchemaNode changedState = findChild(changedModule, "interfaces-state");
+
+        Assertions.assertNotSame(state, changedState);
+        Assertions.assertTrue(fingerprints.getFingerprint(state).isPresent());
+        Assertions.assertEquals(fingerprints.getFingerprint(state), changedFingerprints.getFingerprint(changedState));
+        Assertions.assertTrue(fingerprints.isSameSubtree(state, changedFingerprints, changedState));
+    }
+
+    @Test
+    public void changedSubtreeTest() {
+        final SchemaFingerprints fingerprints = SchemaFingerprints.of(module);
+        final SchemaFingerprints changedFingerprints = SchemaFingerprints.of(changedModule);
+        final DataSchemaNode interfaces = findChild(module, "interfaces");
+        final DataSchemaNode changedInterfaces = findChild(changedModule, "interfaces");
+
+        Assertions.assertTrue(fingerprints.getFingerprint(interfaces).isPresent());
+        Assertions.assertTrue(changedFingerprints.getFingerprint(changedInterfaces).isPresent());
+        Assertions.assertFalse(fingerprints.isSameSubtree(interfaces, changedFingerprints, changedInterfaces));
+        Assertions.assertFalse(fingerprints.isSameSubtree(interfaces, fingerprints,
+                findChild(module, "interfaces-state")));
+    }
+
+    private static DataSchemaNode findChild(final Module module, final String localName) {
+        return module.getChildNodes().stream()
+                .filter(child -> localName.equals(child.getQName().getLocalName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
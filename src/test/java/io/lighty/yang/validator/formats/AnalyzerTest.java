@@ -20,7 +20,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -62,6 +64,7 @@ public class AnalyzerTest implements Cleanable {
         formatter = new Format(formats);
         builder.setFormat("analyze");
         builder.setTreeConfiguration(0, 0, false, false, false);
+        builder.setAnalyzerConfiguration(false, Collections.emptySet(), Collections.emptySet());
     }
 
     @AfterEach
@@ -81,6 +84,36 @@ public class AnalyzerTest implements Cleanable {
         runAnalyzeTest("ietf-netconf-common-analyzed");
     }
 
+    @Test
+    public void analyzePerModuleTest() throws Exception {
+        final String module = Paths.get(yangPath).resolve("ietf-netconf-config@2013-10-21.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setAnalyzerConfiguration(true, Collections.emptySet(), Collections.emptySet());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runAnalyzeTest("ietf-netconf-config-analyzed-per-module");
+    }
+
+    @Test
+    public void analyzeIncludeKeywordTest() throws Exception {
+        final String module = Paths.get(yangPath).resolve("ietf-netconf-common@2013-10-21.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setAnalyzerConfiguration(false, Set.of("module", "submodule", "import"), Collections.emptySet());
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runAnalyzeTest("ietf-netconf-common-analyzed-include");
+    }
+
+    @Test
+    public void analyzeExcludeKeywordTest() throws Exception {
+        final String module = Paths.get(yangPath).resolve("ietf-netconf-common@2013-10-21.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setAnalyzerConfiguration(false, Collections.emptySet(), Set.of("description", "reference"));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runAnalyzeTest("ietf-netconf-common-analyzed-exclude");
+    }
+
 
     private void runAnalyzeTest(final String comapreWithFileName) throws Exception {
         final Path outLog = Paths.get(outPath).resolve("out.log");
@@ -104,6 +104,28 @@ public class DependsTest extends FormatTest {
         runDependendsTest("ietf-ipv6-router-advertisements_exclude-module-dependencies");
     }
 
+    @Test
+    public void dependGraphDotTest() throws Exception {
+        setFormat();
+        builder.setDependConfiguration(false, false, false, new HashSet<>(), "dot");
+        final String module = Paths.get(yangPath).resolve("ietf-routing@2018-03-13.yang").toString();
+        builder.setYangModules(List.of(module));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runDependendsTest("routing-dependencies.dot");
+    }
+
+    @Test
+    public void dependGraphGraphMlTest() throws Exception {
+        setFormat();
+        builder.setDependConfiguration(false, false, false, new HashSet<>(), "graphml");
+        final String module = Paths.get(yangPath).resolve("ietf-routing@2018-03-13.yang").toString();
+        builder.setYangModules(List.of(module));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runDependendsTest("routing-dependencies.graphml");
+    }
+
     @Override
     public void runInterfacesTest() throws Exception {
         runDependendsTest("interfaces-dependencies");
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import static io.lighty.yang.validator.Main.startLyv;
+
+import io.lighty.yang.validator.Cleanable;
+import io.lighty.yang.validator.Main;
+import io.lighty.yang.validator.MainTest;
+import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class HeatMapTest implements Cleanable {
+
+    private String yangPath;
+    private Format formatter;
+    private ConfigurationBuilder builder;
+    private String outPath;
+    private Method method;
+    private Constructor<Main> constructor;
+
+    @BeforeAll
+    public void init() {
+        outPath = TreeTest.class.getResource("/out").getFile();
+        yangPath = MainTest.class.getResource("/yang").getFile();
+    }
+
+    @BeforeEach
+    public void setUpOutput() throws Exception {
+        constructor = (Constructor<Main>) Main.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        final Main mainClass = constructor.newInstance();
+
+        builder = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setOutput(outPath)
+                .setPath(Collections.singletonList(yangPath));
+        method = Main.class.getDeclaredMethod("setMainLoggerOutput", Configuration.class);
+        method.setAccessible(true);
+        method.invoke(mainClass, builder.build());
+        final List<FormatPlugin> formats = new ArrayList<>();
+        formats.add(new HeatMap());
+        formatter = new Format(formats);
+        builder.setFormat("heat-map");
+        builder.setTreeConfiguration(0, 0, false, false, false);
+    }
+
+    @AfterEach
+    public void removeOuptut() throws Exception {
+        tearDown();
+        method.setAccessible(false);
+        constructor.setAccessible(false);
+    }
+
+    @Test
+    public void heatMapFromXmlTest() throws Exception {
+        assertHeatMap(HeatMapTest.class.getResource("/xml").getFile());
+    }
+
+    @Test
+    public void heatMapFromJsonTest() throws Exception {
+        assertHeatMap(HeatMapTest.class.getResource("/json").getFile());
+    }
+
+    private void assertHeatMap(final String simplifyPath) throws Exception {
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setSimplify(simplifyPath);
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final JSONArray heatMap = new JSONObject(Files.readString(outLog)).getJSONArray("heat-map");
+        final JSONObject interfaces = findNode(heatMap, "ietf-interfaces:interfaces");
+        Assertions.assertEquals(1, interfaces.getLong("occurrences"));
+        Assertions.assertEquals(33, interfaces.getLong("subtree-text-bytes"));
+
+        final JSONObject interfaceList = findNode(interfaces.getJSONArray("children"), "interface");
+        Assertions.assertEquals(1, interfaceList.getLong("occurrences"));
+        Assertions.assertEquals(1, interfaceList.getInt("max-list-size"));
+        Assertions.assertEquals(4, findNode(interfaceList.getJSONArray("children"), "name").getLong("text-bytes"));
+
+        final JSONObject ipv6 = findNode(interfaceList.getJSONArray("children"), "ietf-ip:ipv6");
+        Assertions.assertEquals(25, ipv6.getLong("subtree-text-bytes"));
+        Assertions.assertEquals(18, findNode(findNode(ipv6.getJSONArray("children"), "address")
+                .getJSONArray("children"), "ip").getLong("text-bytes"));
+    }
+
+    private static JSONObject findNode(final JSONArray nodes, final String name) {
+        for (int i = 0; i < nodes.length(); i++) {
+            final JSONObject node = nodes.getJSONObject(i);
+            if (name.equals(node.getString("name"))) {
+                return node;
+            }
+        }
+        throw new AssertionError("Node " + name + " not found in heat map");
+    }
+}
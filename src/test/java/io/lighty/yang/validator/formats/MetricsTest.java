@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.formats;
+
+import static io.lighty.yang.validator.Main.startLyv;
+
+import io.lighty.yang.validator.Cleanable;
+import io.lighty.yang.validator.Main;
+import io.lighty.yang.validator.MainTest;
+import io.lighty.yang.validator.config.Configuration;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsTest implements Cleanable {
+
+    private String yangPath;
+    private Format formatter;
+    private ConfigurationBuilder builder;
+    private String outPath;
+    private Method method;
+    private Constructor<Main> constructor;
+
+    @BeforeAll
+    public void init() {
+        outPath = TreeTest.class.getResource("/out").getFile();
+        yangPath = MainTest.class.getResource("/yang").getFile();
+
+        builder = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setOutput(outPath);
+    }
+
+    @BeforeEach
+    public void setUpOutput() throws Exception {
+        constructor = (Constructor<Main>) Main.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        final Main mainClass = constructor.newInstance();
+
+        method = Main.class.getDeclaredMethod("setMainLoggerOutput", Configuration.class);
+        method.setAccessible(true);
+        method.invoke(mainClass, builder.build());
+        final List<FormatPlugin> formats = new ArrayList<>();
+        formats.add(new Metrics());
+        formatter = new Format(formats);
+        builder.setFormat("metrics");
+        builder.setTreeConfiguration(0, 0, false, false, false);
+    }
+
+    @AfterEach
+    public void removeOuptut() throws Exception {
+        tearDown();
+        method.setAccessible(false);
+        constructor.setAccessible(false);
+    }
+
+    @Test
+    public void metricsTest() throws Exception {
+        final String module = Paths.get(yangPath).resolve("ietf-ip@2018-02-22.yang").toString();
+        builder.setYangModules(List.of(module));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+
+        final Path outLog = Paths.get(outPath).resolve("out.log");
+        final JSONObject metrics = new JSONObject(Files.readString(outLog)).getJSONObject("metrics");
+        final JSONObject interfaces = findModule(metrics.getJSONArray("modules"), "ietf-interfaces");
+        Assertions.assertEquals(4, interfaces.getJSONObject("nodes").getInt("container"));
+        Assertions.assertEquals(2, interfaces.getJSONObject("lists").getInt("count"));
+        Assertions.assertEquals(2, interfaces.getJSONObject("lists").getInt("keyed"));
+        Assertions.assertEquals(4, interfaces.getInt("max-depth"));
+        Assertions.assertEquals(0, interfaces.getInt("augmenting-nodes"));
+
+        final JSONObject ip = findModule(metrics.getJSONArray("modules"), "ietf-ip");
+        Assertions.assertEquals(ip.getInt("node-count"), ip.getInt("augmenting-nodes"));
+
+        final JSONObject total = metrics.getJSONObject("total");
+        Assertions.assertEquals(interfaces.getInt("node-count") + ip.getInt("node-count"),
+                total.getInt("node-count"));
+        Assertions.assertEquals(ip.getInt("augmenting-nodes"), total.getInt("augmenting-nodes"));
+    }
+
+    private static JSONObject findModule(final JSONArray modules, final String name) {
+        for (int i = 0; i < modules.length(); i++) {
+            final JSONObject module = modules.getJSONObject(i);
+            if (name.equals(module.getString("name"))) {
+                return module;
+            }
+        }
+        throw new AssertionError("Module " + name + " not found in metrics");
+    }
+}
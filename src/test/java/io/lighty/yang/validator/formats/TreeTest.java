@@ -9,14 +9,20 @@ package io.lighty.yang.validator.formats;
 
 import static io.lighty.yang.validator.Main.startLyv;
 
+import ch.qos.logback.classic.LoggerContext;
 import io.lighty.yang.validator.FormatTest;
+import io.lighty.yang.validator.config.OutputCompression;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 
 public class TreeTest extends FormatTest {
 
@@ -82,6 +88,53 @@ public class TreeTest extends FormatTest {
         runTreeTest("interfaces-limited-depth.tree");
     }
 
+    @Test
+    public void treeNodePathTest() throws Exception {
+        setFormat();
+        builder.setTreeConfiguration(0, 0, false, false, false, List.of("/if:interfaces-state"));
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runTreeTest("interfaces-node-path.tree");
+    }
+
+    @Test
+    public void treeSiblingActionsTest() throws Exception {
+        // second action is a sibling of the first one, not its child
+        setFormat();
+        final String module = Paths.get(TreeTest.class.getResource("/actions").getFile())
+                .resolve("two-actions@2026-01-01.yang").toString();
+        builder.setYangModules(List.of(module));
+        final var configuration = builder.build();
+        startLyv(configuration, formatter);
+        runTreeTest("two-actions.tree");
+    }
+
+    @Test
+    public void treeOutputCompressionTest() throws Exception {
+        setFormat();
+        final String module = Paths.get(yangPath).resolve("ietf-interfaces@2018-02-20.yang").toString();
+        builder.setYangModules(List.of(module))
+                .setOutputCompression(OutputCompression.GZIP);
+        try {
+            final var configuration = builder.build();
+            setLoggerOutput(configuration);
+            startLyv(configuration, formatter);
+            // closing the appenders finishes the compressed stream
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).reset();
+        } finally {
+            builder.setOutputCompression(OutputCompression.NONE);
+        }
+        final Path outLog = Paths.get(outPath).resolve("out.log.gz");
+        final String fileCreated;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(outLog))) {
+            fileCreated = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final String compareWith = Files.readString(outLog.resolveSibling("compare").resolve("interfaces.tree"));
+        Assertions.assertEquals(compareWith, fileCreated);
+    }
+
     @Override
     public void runInterfacesTest() throws Exception {
         runTreeTest("interfaces.tree");
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.simplify;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.lighty.yang.validator.LyvEffectiveModelContextFactory;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SchemaSelectorTest {
+
+    private Path xmlPath;
+    private EffectiveModelContext context;
+
+    @BeforeAll
+    public void init() throws Exception {
+        final Path yangPath = Paths.get(SchemaSelectorTest.class.getResource("/yang").getFile());
+        xmlPath = Paths.get(SchemaSelectorTest.class.getResource("/xmlMultipleFiles").getFile());
+        final var configuration = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setPath(Collections.singletonList(yangPath.toString()))
+                .setYangModules(List.of(yangPath.resolve("ietf-ip@2018-02-22.yang").toString()))
+                .setTreeConfiguration(0, 0, false, false, false)
+                .build();
+        context = LyvEffectiveModelContextFactory.create(configuration).context();
+    }
+
+    @Test
+    public void mergedTreeLinksToItsOwnNodesTest() throws Exception {
+        final SchemaSelector selector = new SchemaSelector(context);
+        final SchemaSelector sequential = new SchemaSelector(context);
+        for (final String file : List.of("interfaces-1.xml", "interfaces-3.xml")) {
+            final SchemaSelector worker = selector.newWorker();
+            try (InputStream input = Files.newInputStream(xmlPath.resolve(file))) {
+                worker.addXml(input);
+            }
+            selector.merge(worker);
+            try (InputStream input = Files.newInputStream(xmlPath.resolve(file))) {
+                sequential.addXml(input);
+            }
+        }
+
+        assertParents(selector.getSchemaTree());
+        assertSameStructure(sequential.getSchemaTree(), selector.getSchemaTree());
+    }
+
+    private static void assertParents(final SchemaTree tree) {
+        for (final SchemaTree child : tree.getChildren()) {
+            assertSame(tree, child.getParent(), child.getAbsolutePath().toString());
+            assertParents(child);
+        }
+    }
+
+    private static void assertSameStructure(final SchemaTree expected, final SchemaTree actual) {
+        assertEquals(expected.getAbsolutePath(), actual.getAbsolutePath());
+        assertEquals(expected.getOccurrences(), actual.getOccurrences());
+        assertEquals(List.copyOf(expected.getChildren()), List.copyOf(actual.getChildren()));
+        final var expectedChildren = expected.getChildren().iterator();
+        for (final SchemaTree child : actual.getChildren()) {
+            assertSameStructure(expectedChildren.next(), child);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech s.r.o. All Rights Reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.yang.validator.validatedata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.yang.validator.LyvEffectiveModelContextFactory;
+import io.lighty.yang.validator.config.ConfigurationBuilder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DataValidatorTest {
+
+    private Path dataPath;
+    private EffectiveModelContext context;
+
+    @BeforeAll
+    public void init() throws Exception {
+        final Path yangPath = Paths.get(DataValidatorTest.class.getResource("/validate-data").getFile());
+        dataPath = yangPath.resolve("data");
+        final var configuration = new ConfigurationBuilder()
+                .setRecursive(false)
+                .setPath(Collections.singletonList(yangPath.toString()))
+                .setYangModules(List.of(yangPath.resolve("validate-data-test@2026-01-01.yang").toString()))
+                .setValidateData(List.of(dataPath.toString()))
+                .setTreeConfiguration(0, 0, false, false, false)
+                .build();
+        context = LyvEffectiveModelContextFactory.create(configuration).context();
+    }
+
+    @Test
+    public void validDataTest() throws Exception {
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(dataPath.resolve("valid.xml").toString()));
+        assertEquals(0, validator.getErrorCount());
+    }
+
+    @Test
+    public void invalidTypeTest() throws Exception {
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(dataPath.resolve("invalid-type.xml").toString()));
+        assertEquals(1, validator.getErrorCount());
+        final String error = validator.getErrors().get(0);
+        assertTrue(error.matches("5:\\d+: .*http.*"), error);
+    }
+
+    @Test
+    public void invalidKeyTest() throws Exception {
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(dataPath.resolve("invalid-key.xml").toString()));
+        assertEquals(1, validator.getErrorCount());
+        final String error = validator.getErrors().get(0);
+        assertTrue(error.matches("\\d+:\\d+: .*name.*"), error);
+    }
+
+    @Test
+    public void invalidConstraintsTest() throws Exception {
+        // missing mandatory port, too many tags and link to a device which does not exist
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(dataPath.resolve("invalid-constraints.xml").toString()));
+        assertEquals(3, validator.getErrorCount());
+        final List<String> errors = validator.getErrors();
+        assertTrue(errors.contains("/validate-data-test:devices/device[name='a']: missing mandatory node port"),
+                errors.toString());
+        assertTrue(errors.contains("/validate-data-test:devices/device[name='a']/tag: 3 entries, max-elements is 2"),
+                errors.toString());
+        assertTrue(errors.stream().anyMatch(error -> error.startsWith(
+                "/validate-data-test:links/link[id='1']/device: leafref value 'b' does not refer to an existing "
+                        + "instance of ")), errors.toString());
+    }
+
+    @Test
+    public void validateDirectoryTest() throws Exception {
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(dataPath.toString()));
+        assertEquals(5, validator.getErrorCount());
+    }
+
+    @Test
+    public void skippedJsonTest(@TempDir final Path jsonDir) throws Exception {
+        Files.copy(dataPath.resolve("valid.xml"), jsonDir.resolve("valid.xml"));
+        Files.writeString(jsonDir.resolve("data.json"), "{\"validate-data-test:devices\": {}}");
+        final DataValidator validator = new DataValidator(context);
+        validator.validate(List.of(jsonDir.toString()));
+        assertEquals(0, validator.getErrorCount());
+    }
+}